@@ -0,0 +1,61 @@
+// Mixed read/write load against the template API, run the same script against the MVC and the reactive stack:
+//   make load-test                           # MVC (app, Tomcat + JPA)
+//   make load-test LOAD_TEST_TARGET=app-reactive   # WebFlux + R2DBC
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:4326';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        // a fixed request rate, so both stacks are compared at the same load instead of at their own pace
+        templates: {
+            executor: 'ramping-arrival-rate',
+            startRate: 100,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: 1000, duration: '30s' },
+                { target: 1000, duration: '1m' },
+                { target: 3000, duration: '30s' },
+                { target: 3000, duration: '1m' },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{operation:getById}': ['p(99)<100'],
+        'http_req_duration{operation:search}': ['p(99)<250'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < 100; i++) {
+        const response = http.post(`${BASE_URL}/api/templates`,
+            JSON.stringify({ name: `Load Test ${i}`, acronym: 'LT', budget: 1000 + i }), JSON_HEADERS);
+        const location = response.headers['Location'];
+        ids.push(location.substring(location.lastIndexOf('/') + 1));
+    }
+    return { ids };
+}
+
+export default function (data) {
+    const dice = Math.random();
+    if (dice < 0.8) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        const response = http.get(`${BASE_URL}/api/templates/${id}`, { tags: { operation: 'getById' } });
+        check(response, { 'getById 200': (r) => r.status === 200 });
+    } else if (dice < 0.95) {
+        const response = http.get(`${BASE_URL}/api/templates?namePrefix=Load&size=20&count=NONE`, { tags: { operation: 'search' } });
+        check(response, { 'search 200': (r) => r.status === 200 });
+    } else {
+        const response = http.post(`${BASE_URL}/api/templates`,
+            JSON.stringify({ name: `Load Test ${__VU}-${__ITER}`, acronym: 'LT', budget: 1000 }),
+            Object.assign({ tags: { operation: 'add' } }, JSON_HEADERS));
+        check(response, { 'add 201': (r) => r.status === 201 });
+    }
+}
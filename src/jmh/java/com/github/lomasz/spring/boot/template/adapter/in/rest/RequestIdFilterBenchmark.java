@@ -0,0 +1,70 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RequestIdFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private TimeOrderedRequestIdGenerator generator;
+    private RequestIdFilter filter;
+    private MockHttpServletRequest requestWithId;
+    private MockHttpServletRequest requestWithoutId;
+
+    @Setup
+    public void setUp() {
+        generator = new TimeOrderedRequestIdGenerator();
+        filter = new RequestIdFilter(generator, new RequestIdProperties());
+        requestWithId = new MockHttpServletRequest("GET", "/api/templates");
+        requestWithId.addHeader("X-Request-ID", "0190b7e2-5d3c-7c3e-a1f2-6b8e4c2d9f10");
+        requestWithoutId = new MockHttpServletRequest("GET", "/api/templates");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse withRequestIdHeader() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilterInternal(requestWithId, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse withoutRequestIdHeader() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilterInternal(requestWithoutId, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public String timeOrderedId() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+}
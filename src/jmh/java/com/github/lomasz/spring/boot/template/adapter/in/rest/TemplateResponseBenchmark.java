@@ -0,0 +1,67 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateResponseBenchmark {
+
+    @Param({"20", "500"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .serializerByType(Money.class, new MoneyJsonComponent.Serializer())
+            .build();
+
+    private TemplateResponse response;
+    private SearchResult<Template> searchResult;
+    private SearchResult<TemplateResponse> mappedSearchResult;
+
+    @Setup
+    public void setUp() {
+        response = new TemplateResponse(1L, "John Doe", "JD", Money.ofMinorUnits(18200500050L));
+        List<Template> items = LongStream.range(0, pageSize)
+                .mapToObj(i -> new Template(i, "John Doe " + i, "JD", Money.ofMinorUnits(i * 1050)))
+                .toList();
+        searchResult = new SearchResult<>(items, 1_000_000L, 0, pageSize, 1_000_000 / pageSize);
+        mappedSearchResult = SearchResult.from(searchResult, TemplateResponse::fromDomain);
+    }
+
+    @Benchmark
+    public SearchResult<TemplateResponse> mapSearchResult() {
+        return SearchResult.from(searchResult, TemplateResponse::fromDomain);
+    }
+
+    @Benchmark
+    public byte[] serializeTemplateResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeSearchResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mappedSearchResult);
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateEntityBenchmark {
+
+    private final Template template = new Template(null, "John Doe", "JD", Money.of(182005000));
+
+    private final TemplateEntity entity = TemplateEntity.builder()
+            .id(1L)
+            .name("John Doe")
+            .acronym("JD")
+            .budget(Money.of(182005000))
+            .version(0L)
+            .build();
+
+    @Benchmark
+    public TemplateEntity fromDomain() {
+        return TemplateEntity.fromDomain(template);
+    }
+
+    @Benchmark
+    public Template toDomain() {
+        return entity.toDomain();
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.Application;
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.ScrollResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs {@link TemplatePersistenceAdapter#search} against an embedded H2 seeded with the given number of rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TemplateSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TemplatePersistenceAdapter adapter;
+    private int deepPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "spring.h2.console.enabled=false",
+                        // measures the queries, not the second-level cache
+                        "app.persistence.second-level-cache.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO template (id, name, acronym, budget_minor_units)
+                SELECT x, CONCAT('Template ', x), CONCAT('T', MOD(x, 1000)), MOD(x * 7919, 1000000) * 100
+                FROM SYSTEM_RANGE(1, ?)
+                """, rows);
+        adapter = context.getBean(TemplatePersistenceAdapter.class);
+        deepPage = rows / PAGE_SIZE / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SearchResult<Template> firstPage() {
+        return adapter.search(TemplateFilter.none(), 0, PAGE_SIZE, SortDirection.ASC, "name", CountMode.EXACT);
+    }
+
+    @Benchmark
+    public SearchResult<Template> firstPageWithoutCount() {
+        return adapter.search(TemplateFilter.none(), 0, PAGE_SIZE, SortDirection.ASC, "name", CountMode.NONE);
+    }
+
+    @Benchmark
+    public SearchResult<Template> firstPageEstimatedCount() {
+        return adapter.search(TemplateFilter.none(), 0, PAGE_SIZE, SortDirection.ASC, "name", CountMode.ESTIMATED);
+    }
+
+    @Benchmark
+    public SearchResult<Template> deepPage() {
+        return adapter.search(TemplateFilter.none(), deepPage, PAGE_SIZE, SortDirection.ASC, "name", CountMode.EXACT);
+    }
+
+    @Benchmark
+    public SearchResult<Template> firstPageByBudget() {
+        return adapter.search(TemplateFilter.none(), 0, PAGE_SIZE, SortDirection.DESC, "budget", CountMode.EXACT);
+    }
+
+    @Benchmark
+    public SearchResult<Template> filteredByNamePrefixAndBudget() {
+        TemplateFilter filter = new TemplateFilter("Template 12", null, Money.of(100_000), Money.of(500_000));
+        return adapter.search(filter, 0, PAGE_SIZE, SortDirection.ASC, "name", CountMode.EXACT);
+    }
+
+    @Benchmark
+    public ScrollResult<Template> firstSlice() {
+        return adapter.scroll(null, PAGE_SIZE, SortDirection.ASC, "name");
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.Application;
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Compares the in-memory H2 with the file backed one of the {@code h2file} profile, both seeded with the given number
+ * of rows. The insert benchmark keeps adding rows, so the table grows slightly during the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TemplateStorageModeBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH_SIZE = 100;
+
+    @Param({"mem", "file"})
+    private String mode;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private TemplatePersistenceAdapter adapter;
+    private List<Template> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jmh-h2");
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.h2.console.enabled=false",
+                        // measures the storage, not the second-level cache
+                        "app.persistence.second-level-cache.enabled=false",
+                        "logging.level.root=WARN");
+        if (mode.equals("file")) {
+            builder.profiles("h2file").properties("app.h2.directory=" + directory);
+        } else {
+            builder.properties("spring.datasource.url=jdbc:h2:mem:jmh-storage;DB_CLOSE_DELAY=-1");
+        }
+        context = builder.run();
+        // negative ids do not collide with the ones taken from template_seq by the insert benchmark
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO template (id, name, acronym, budget_minor_units)
+                SELECT -x, CONCAT('Template ', x), CONCAT('T', MOD(x, 1000)), MOD(x * 7919, 1000000) * 100
+                FROM SYSTEM_RANGE(1, ?)
+                """, rows);
+        adapter = context.getBean(TemplatePersistenceAdapter.class);
+        batch = IntStream.range(0, INSERT_BATCH_SIZE)
+                .mapToObj(i -> new Template(null, "Inserted " + i, "IN", Money.of(i)))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public List<Long> insertBatch() {
+        return adapter.createAll(batch);
+    }
+
+    @Benchmark
+    public SearchResult<Template> firstPage() {
+        return adapter.search(TemplateFilter.none(), 0, PAGE_SIZE, SortDirection.ASC, "name", CountMode.EXACT);
+    }
+
+    @Benchmark
+    public SearchResult<Template> filteredByNamePrefixAndBudget() {
+        TemplateFilter filter = new TemplateFilter("Template 12", null, Money.of(100_000), Money.of(500_000));
+        return adapter.search(filter, 0, PAGE_SIZE, SortDirection.ASC, "name", CountMode.EXACT);
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.lomasz.spring.boot.template.adapter.in.reactive;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+
+record CreateTemplateRequest(
+
+        @NotNull
+        @Size(max = 255)
+        String name,
+
+        @NotNull
+        @Size(min = 1, max = 5)
+        String acronym,
+
+        @NotNull
+        @Min(value = 0L, message = "must be positive")
+        @Digits(integer = 16, fraction = Money.SCALE)
+        BigDecimal budget
+) {
+
+    public Template toDomain() {
+        return new Template(null, name, acronym, Money.of(budget));
+    }
+}
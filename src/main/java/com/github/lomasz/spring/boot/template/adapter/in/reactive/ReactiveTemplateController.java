@@ -0,0 +1,68 @@
+package com.github.lomasz.spring.boot.template.adapter.in.reactive;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import com.github.lomasz.spring.boot.template.application.usecase.ReactiveAddTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.ReactiveGetTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.ReactiveSearchTemplatesUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux variant of the template API, active with {@code spring.main.web-application-type=reactive} (the
+ * {@code reactive} profile). Requests are served on the event loop end to end, the persistence goes through R2DBC.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/templates")
+@RequiredArgsConstructor
+class ReactiveTemplateController {
+
+    private final ReactiveSearchTemplatesUseCase searchTemplatesUseCase;
+    private final ReactiveGetTemplateUseCase getTemplateUseCase;
+    private final ReactiveAddTemplateUseCase addTemplateUseCase;
+
+    @GetMapping
+    public Mono<SearchResult<TemplateResponse>> search(
+            @RequestParam(name = "page", required = false, defaultValue = "0") int page,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size,
+            @RequestParam(name = "order", required = false, defaultValue = "ASC") SortDirection sortDirection,
+            @RequestParam(value = "sort", required = false, defaultValue = "name") String sortProperty,
+            @RequestParam(name = "namePrefix", required = false) String namePrefix,
+            @RequestParam(name = "acronym", required = false) String acronym,
+            @RequestParam(name = "budgetMin", required = false) Money budgetMin,
+            @RequestParam(name = "budgetMax", required = false) Money budgetMax,
+            @RequestParam(name = "count", required = false, defaultValue = "EXACT") CountMode countMode) {
+        TemplateFilter filter = new TemplateFilter(namePrefix, acronym, budgetMin, budgetMax);
+        return searchTemplatesUseCase.execute(
+                        new ReactiveSearchTemplatesUseCase.Input(page, size, sortDirection, sortProperty, filter, countMode))
+                .map(output -> SearchResult.from(output.searchResult(), TemplateResponse::fromDomain));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TemplateResponse> getById(@PathVariable("id") Long id) {
+        return getTemplateUseCase.execute(new ReactiveGetTemplateUseCase.Input(id))
+                .map(output -> TemplateResponse.fromDomain(output.template()));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Void>> add(@RequestBody @Valid CreateTemplateRequest request, UriComponentsBuilder uriBuilder) {
+        return addTemplateUseCase.execute(new ReactiveAddTemplateUseCase.Input(request.toDomain()))
+                .map(output -> ResponseEntity.created(uriBuilder.path("/api/templates/{id}").buildAndExpand(output.id()).toUri())
+                        .build());
+    }
+}
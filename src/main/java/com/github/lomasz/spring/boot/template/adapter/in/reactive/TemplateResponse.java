@@ -0,0 +1,16 @@
+package com.github.lomasz.spring.boot.template.adapter.in.reactive;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+
+record TemplateResponse(
+        Long id,
+        String name,
+        String acronym,
+        Money budget
+) {
+
+    public static TemplateResponse fromDomain(Template template) {
+        return new TemplateResponse(template.id(), template.name(), template.acronym(), template.budget());
+    }
+}
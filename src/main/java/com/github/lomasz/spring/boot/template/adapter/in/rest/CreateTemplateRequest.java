@@ -1,7 +1,9 @@
 package com.github.lomasz.spring.boot.template.adapter.in.rest;
 
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -21,11 +23,12 @@ record CreateTemplateRequest(
 
         @NotNull
         @Min(value = 0L, message = "must be positive")
+        @Digits(integer = 16, fraction = Money.SCALE)
         @Schema(example = "1000.00")
         BigDecimal budget
 ) {
 
     public Template toDomain() {
-        return new Template(null, name, acronym, budget);
+        return new Template(null, name, acronym, Money.of(budget));
     }
 }
@@ -0,0 +1,21 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+record CreateTemplatesRequest(
+
+        @NotNull
+        @Size(min = 1, max = 10000)
+        List<@Valid @NotNull CreateTemplateRequest> templates
+) {
+
+    public List<Template> toDomain() {
+        return templates.stream()
+                .map(CreateTemplateRequest::toDomain)
+                .toList();
+    }
+}
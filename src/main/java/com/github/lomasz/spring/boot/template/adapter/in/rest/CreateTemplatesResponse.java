@@ -0,0 +1,12 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+record CreateTemplatesResponse(
+
+        @ArraySchema(schema = @Schema(example = "1"))
+        List<Long> ids
+) {
+}
@@ -0,0 +1,47 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rest.caching")
+class HttpCachingProperties {
+
+    /**
+     * How long clients may reuse a template read without asking the server, zero means they revalidate (with
+     * If-None-Match) every time.
+     */
+    private Duration maxAge = Duration.ZERO;
+
+    /**
+     * Separate max-age for shared caches such as a CDN or the ingress, not sent when empty.
+     */
+    private Duration sharedMaxAge;
+
+    /**
+     * How long a cache may serve a stale response while it revalidates in the background, not sent when empty.
+     */
+    private Duration staleWhileRevalidate;
+
+    /**
+     * Whether shared caches may store template reads at all.
+     */
+    private boolean shared = true;
+
+    CacheControl toCacheControl() {
+        CacheControl cacheControl = maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge);
+        cacheControl = shared ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+        if (sharedMaxAge != null) {
+            cacheControl = cacheControl.sMaxAge(sharedMaxAge);
+        }
+        if (staleWhileRevalidate != null) {
+            cacheControl = cacheControl.staleWhileRevalidate(staleWhileRevalidate);
+        }
+        return cacheControl;
+    }
+
+}
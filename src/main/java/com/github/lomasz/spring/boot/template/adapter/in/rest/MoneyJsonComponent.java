@@ -0,0 +1,44 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import java.io.IOException;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Writes {@link Money} as a plain JSON number straight from its minor units, no {@link java.math.BigDecimal} involved.
+ */
+@JsonComponent
+class MoneyJsonComponent {
+
+    static class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(money.toPlainString());
+        }
+    }
+
+    static class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT && parser.currentToken() != JsonToken.VALUE_NUMBER_FLOAT
+                    && parser.currentToken() != JsonToken.VALUE_STRING) {
+                return (Money) context.handleUnexpectedToken(Money.class, parser);
+            }
+            String text = parser.getText().trim();
+            try {
+                return Money.valueOf(text);
+            } catch (NumberFormatException e) {
+                return (Money) context.handleWeirdStringValue(Money.class, text, e.getMessage());
+            }
+        }
+    }
+}
@@ -5,24 +5,31 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Optional;
-import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
 class RequestIdFilter extends OncePerRequestFilter {
 
-    private static final String X_REQUEST_ID = "X-Request-ID";
+    static final String X_REQUEST_ID = "X-Request-ID";
+    static final String REQUEST_ID_ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
+
+    private final RequestIdGenerator requestIdGenerator;
+    private final RequestIdProperties properties;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String requestId = Optional.ofNullable(request.getHeader(X_REQUEST_ID)).orElseGet(UUID.randomUUID()::toString);
+        String requestId = sanitize(request.getHeader(X_REQUEST_ID));
 
         try {
+            request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
             response.addHeader(X_REQUEST_ID, requestId);
             MDC.put(X_REQUEST_ID, requestId);
             filterChain.doFilter(request, response);
@@ -30,4 +37,25 @@ class RequestIdFilter extends OncePerRequestFilter {
             MDC.remove(X_REQUEST_ID);
         }
     }
+
+    /**
+     * Keeps a client supplied id only if it is safe to echo into headers and logs, truncated to the configured length.
+     */
+    private String sanitize(String requestId) {
+        if (requestId == null || requestId.isEmpty()) {
+            return requestIdGenerator.generate();
+        }
+        int length = Math.min(requestId.length(), properties.getMaxLength());
+        for (int i = 0; i < length; i++) {
+            if (!isAllowed(requestId.charAt(i))) {
+                return requestIdGenerator.generate();
+            }
+        }
+        return requestId.substring(0, length);
+    }
+
+    private static boolean isAllowed(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == ':';
+    }
 }
@@ -0,0 +1,12 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+/**
+ * Generates the id of a request that arrived without an {@code X-Request-ID} header. Declare a bean of this type to
+ * replace the default {@link TimeOrderedRequestIdGenerator}.
+ */
+@FunctionalInterface
+public interface RequestIdGenerator {
+
+    String generate();
+
+}
@@ -0,0 +1,17 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.request-id")
+class RequestIdProperties {
+
+    /**
+     * Incoming request ids longer than this are truncated.
+     */
+    private int maxLength = 64;
+
+}
@@ -0,0 +1,21 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties({RequestIdProperties.class, HttpCachingProperties.class, TemplateJsonCacheProperties.class,
+        TemplateChangeFeedProperties.class})
+@ImportRuntimeHints(RestRuntimeHints.class)
+class RestConfig {
+
+    @Bean
+    RequestIdGenerator requestIdGenerator() {
+        return new TimeOrderedRequestIdGenerator();
+    }
+
+}
@@ -1,64 +1,86 @@
 package com.github.lomasz.spring.boot.template.adapter.in.rest;
 
 import com.github.lomasz.spring.boot.template.application.domain.exception.BusinessException;
+import com.github.lomasz.spring.boot.template.application.domain.exception.CapacityExceededException;
 import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
 import com.github.lomasz.spring.boot.template.application.domain.exception.TechnicalException;
 import java.time.Instant;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 class RestExceptionHandler {
 
     private static final String TIMESTAMP = "timestamp";
     private static final String ERRORS = "errors";
     private static final String REQUEST_ID = "requestId";
 
-    private static final String X_REQUEST_ID_HEADER = "X-Request-ID";
+    private static final String RETRY_AFTER_SECONDS = "1";
 
     @ExceptionHandler(NotFoundException.class)
-    ErrorResponse handle(NotFoundException ex) {
+    ErrorResponse handle(NotFoundException ex, WebRequest req) {
         return ErrorResponse.builder(ex, HttpStatus.NOT_FOUND, ex.getMessage())
                 .title("Not Found")
+                .property(REQUEST_ID, requestId(req))
                 .property(TIMESTAMP, Instant.now())
                 .build();
     }
 
     @ExceptionHandler(BusinessException.class)
-    ErrorResponse handle(BusinessException ex) {
+    ErrorResponse handle(BusinessException ex, WebRequest req) {
         return ErrorResponse.builder(ex, HttpStatus.BAD_REQUEST, ex.getMessage())
                 .title("Business Exception")
+                .property(REQUEST_ID, requestId(req))
                 .property(TIMESTAMP, Instant.now())
                 .build();
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    ErrorResponse handle(MethodArgumentNotValidException ex) {
+    ErrorResponse handle(MethodArgumentNotValidException ex, WebRequest req) {
         List<String> errors = ex.getFieldErrors().stream()
                 .map(x -> "%s: %s".formatted(x.getField(), x.getDefaultMessage()))
                 .toList();
 
         return ErrorResponse.builder(ex, HttpStatus.BAD_REQUEST, "Invalid request content")
                 .title("Business Exception")
+                .property(REQUEST_ID, requestId(req))
                 .property(TIMESTAMP, Instant.now())
                 .property(ERRORS, errors)
                 .build();
     }
 
+    @ExceptionHandler(CapacityExceededException.class)
+    ErrorResponse handle(CapacityExceededException ex, WebRequest req) {
+        return ErrorResponse.builder(ex, HttpStatus.TOO_MANY_REQUESTS, ex.getMessage())
+                .title("Too Many Requests")
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .property(REQUEST_ID, requestId(req))
+                .property(TIMESTAMP, Instant.now())
+                .build();
+    }
+
     @ExceptionHandler(TechnicalException.class)
     ErrorResponse handle(TechnicalException ex, WebRequest req) {
         log.error("Technical Exception: {}", ex.getMessage(), ex);
         return ErrorResponse.builder(ex, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error")
                 .title("Internal Server Error")
-                .property(REQUEST_ID, req.getHeader(X_REQUEST_ID_HEADER))
+                .property(REQUEST_ID, requestId(req))
                 .property(TIMESTAMP, Instant.now())
                 .build();
     }
+
+    private static Object requestId(WebRequest req) {
+        return req.getAttribute(RequestIdFilter.REQUEST_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
 }
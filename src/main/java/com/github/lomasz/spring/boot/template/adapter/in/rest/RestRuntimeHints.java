@@ -0,0 +1,31 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.LookupResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.ScrollResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints for what Spring AOT cannot infer from the handler method signatures: {@link TemplateResponse}
+ * serialized outside of them (pre-serialized JSON, NDJSON export), the generic result wrappers and the OpenAPI
+ * annotations of {@link TemplateApiDoc} read by springdoc.
+ */
+class RestRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(TemplateResponse.class, MemberCategory.values())
+                .registerType(SearchResult.class, MemberCategory.values())
+                .registerType(ScrollResult.class, MemberCategory.values())
+                .registerType(LookupResult.class, MemberCategory.values())
+                .registerType(CountMode.class, MemberCategory.values())
+                .registerType(Money.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(TemplateApiDoc.class, MemberCategory.INTROSPECT_PUBLIC_METHODS)
+                .registerType(TemplateController.class, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+    }
+}
@@ -1,21 +1,34 @@
 package com.github.lomasz.spring.boot.template.adapter.in.rest;
 
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.LookupResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.ScrollResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.usecase.ScrollTemplatesUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 interface TemplateApiDoc {
 
-    @Operation(summary = "Search", description = "Search based on given criteria")
+    @Operation(summary = "Search", description = "Search based on given criteria. The response carries a weak 'ETag', "
+            + "send it back in 'If-None-Match' to get 304 while the page is unchanged. The total count is the most expensive "
+            + "part of a search on large tables: 'count=NONE' skips it ('totalCount' and 'pages' are null, use 'hasNext'), "
+            + "'count=ESTIMATED' returns a cached approximation. The mode used is echoed in 'countMode'.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "304", description = "Not Modified, the page matches 'If-None-Match'."),
             @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
             @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
     })
@@ -23,22 +36,85 @@ interface TemplateApiDoc {
             @Parameter(description = "Page number of the search results") int page,
             @Parameter(description = "Number of items per page") int size,
             @Parameter(description = "Direction of sorting") SortDirection sortDirection,
+            @Parameter(description = "Property to sort by") String sortProperty,
+            @Parameter(description = "Beginning of the name (case sensitive)") String namePrefix,
+            @Parameter(description = "Exact acronym") String acronym,
+            @Parameter(description = "Minimal budget (inclusive)", schema = @Schema(type = "number")) Money budgetMin,
+            @Parameter(description = "Maximal budget (inclusive)", schema = @Schema(type = "number")) Money budgetMax,
+            @Parameter(description = "How 'totalCount' and 'pages' are calculated: EXACT (count query), NONE (not at all) "
+                    + "or ESTIMATED (cached, refreshed in the background)") CountMode countMode);
+
+    @Operation(summary = "Scroll", description = "Keyset (cursor) pagination, no total count is calculated")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    ResponseEntity<ScrollResult<TemplateResponse>> scroll(
+            @Parameter(description = "Continuation token returned as 'nextCursor', empty for the first slice") String cursor,
+            @Parameter(description = "Number of items per slice, 1 to " + ScrollTemplatesUseCase.MAX_SIZE) int size,
+            @Parameter(description = "Direction of sorting") SortDirection sortDirection,
             @Parameter(description = "Property to sort by") String sortProperty);
 
+    @Operation(summary = "Export", description = "Stream all objects as newline-delimited JSON, ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = TemplateResponse.class))),
+            @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
+    @Operation(summary = "Changes", description = "Server-sent events '" + TemplateChangeFeed.EVENT_NAME + "' for objects "
+            + "created from now on, the event 'id' is the object ID. Reconnect with 'Last-Event-ID' to receive the objects "
+            + "with a greater ID first; the resume is best-effort, IDs are not in commit order, so an object committed "
+            + "later with a lower ID is not replayed. A client that does not keep up with the events is disconnected.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = TemplateResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too many open streams.",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    SseEmitter changes(@Parameter(description = "ID of the last received object") Long lastEventId);
+
     @Operation(summary = "Add", description = "Add new object")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Created. 'Location' header contains URL of the new resource."),
+            @ApiResponse(responseCode = "202", description = "Accepted (write-behind mode). 'Location' header contains URL "
+                    + "of the new resource, it is readable once the queued object is committed."),
             @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "429", description = "Write-behind queue is full, retry after 'Retry-After' seconds.",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
             @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
     })
     ResponseEntity<Void> add(CreateTemplateRequest request);
 
-    @Operation(summary = "Get by ID", description = "Retrieve a specific object by its ID")
+    @Operation(summary = "Add batch", description = "Add up to 10000 new objects in a single request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Created. Body contains IDs in the order of the request items."),
+            @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    ResponseEntity<CreateTemplatesResponse> addAll(CreateTemplatesRequest request);
+
+    @Operation(summary = "Lookup", description = "Retrieve up to 1000 objects by their IDs in a single request. Items are "
+            + "returned in the order of the requested IDs, IDs without an object are listed in 'missingIds'.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+    })
+    ResponseEntity<LookupResult<TemplateResponse>> lookup(TemplateLookupRequest request);
+
+    @Operation(summary = "Get by ID", description = "Retrieve a specific object by its ID. The response carries a strong "
+            + "'ETag', send it back in 'If-None-Match' to get 304 while the object is unchanged.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = TemplateResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not Modified, the object matches 'If-None-Match'."),
             @ApiResponse(responseCode = "400", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
             @ApiResponse(responseCode = "404", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
             @ApiResponse(responseCode = "500", content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
     })
-    ResponseEntity<TemplateResponse> getById(@Parameter(description = "ID of the object to retrieve") Long id);
+    ResponseEntity<byte[]> getById(@Parameter(description = "ID of the object to retrieve") Long id,
+                                   @Parameter(hidden = true) WebRequest webRequest);
 }
@@ -0,0 +1,191 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.CapacityExceededException;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateCreatedEvent;
+import com.github.lomasz.spring.boot.template.application.usecase.GetTemplatesAfterIdUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans template creations out to the subscribers of the server-sent change feed. Creations of this instance are
+ * pushed from memory, so subscribers cost no database queries; only a resume with Last-Event-ID reads the templates
+ * created since then. Every subscriber has a bounded buffer drained by its own virtual thread. A subscriber that
+ * falls behind by more than the buffer is disconnected instead of slowing down the others (or the creating request).
+ * <p>
+ * Ids are not assigned in commit order (every instance and the write-behind queue allocate their own blocks of the
+ * sequence), so live events are pushed in commit order whatever their id, while the resume is best-effort: it replays
+ * the templates with an id greater than Last-Event-ID and misses a template committed later with a lower id. A
+ * template read by the replay and pushed live as well is sent once, the ids sent last are remembered per subscriber.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class TemplateChangeFeed {
+
+    static final String EVENT_NAME = "template-created";
+
+    /**
+     * Wakes up the sender of a disconnected subscriber, never sent.
+     */
+    private static final Template DISCONNECT = new Template(null, null, null, Money.ofMinorUnits(0));
+
+    private final GetTemplatesAfterIdUseCase getTemplatesAfterIdUseCase;
+    private final TemplateChangeFeedProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    /**
+     * Taken before a subscriber is registered and given back when it is disconnected, so concurrent subscriptions
+     * cannot exceed the limit.
+     */
+    private final Semaphore subscriberSlots;
+    private final ThreadFactory senderThreadFactory = Thread.ofVirtual().name("template-changes-", 0).factory();
+    private final Counter slowConsumerDisconnects;
+
+    TemplateChangeFeed(GetTemplatesAfterIdUseCase getTemplatesAfterIdUseCase, TemplateChangeFeedProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.getTemplatesAfterIdUseCase = getTemplatesAfterIdUseCase;
+        this.properties = properties;
+        this.subscriberSlots = new Semaphore(properties.getMaxSubscribers());
+        Gauge.builder("templates.changes.subscribers", subscribers, Set::size)
+                .description("Open streams of the template change feed")
+                .register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder("templates.changes.disconnects")
+                .description("Subscribers disconnected because their buffer was full")
+                .tag("reason", "slow_consumer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param lastEventId id of the last template the client has seen, {@code null} for new creations only
+     */
+    SseEmitter subscribe(Long lastEventId) {
+        if (!subscriberSlots.tryAcquire()) {
+            throw new CapacityExceededException("Too many change feed subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(properties.getBufferSize()));
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> disconnect(subscriber));
+        emitter.onError(e -> disconnect(subscriber));
+        // registered before the replay, so nothing created in the meantime is missed
+        subscribers.add(subscriber);
+        senderThreadFactory.newThread(() -> send(subscriber, lastEventId)).start();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(TemplateCreatedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer().offer(event.template())) {
+                log.warn("Disconnecting a slow change feed subscriber, {} events are buffered", properties.getBufferSize());
+                slowConsumerDisconnects.increment();
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        subscribers.forEach(this::disconnect);
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (subscriber.disconnected().compareAndSet(false, true)) {
+            subscribers.remove(subscriber);
+            subscriberSlots.release();
+            subscriber.buffer().clear();
+            subscriber.buffer().offer(DISCONNECT);
+        }
+    }
+
+    private void send(Subscriber subscriber, Long lastEventId) {
+        SseEmitter emitter = subscriber.emitter();
+        try {
+            Set<Long> sentIds = recentIds(properties.getSentIdsWindow());
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId, sentIds);
+            }
+            long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+            while (!subscriber.disconnected().get()) {
+                Template template = subscriber.buffer().poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                if (template == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else if (template != DISCONNECT && sentIds.add(template.id())) {
+                    // creations committed during the replay may have been read by it already
+                    emitter.send(event(template));
+                }
+            }
+            emitter.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // the client went away or the stream has been completed meanwhile
+            log.debug("Change feed stream closed: {}", e.getMessage());
+            disconnect(subscriber);
+        }
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId, Set<Long> sentIds) throws IOException {
+        int batchSize = properties.getReplayBatchSize();
+        long afterId = lastEventId;
+        List<Template> templates;
+        do {
+            templates = getTemplatesAfterIdUseCase.execute(new GetTemplatesAfterIdUseCase.Input(afterId, batchSize)).templates();
+            for (Template template : templates) {
+                subscriber.emitter().send(event(template));
+                sentIds.add(template.id());
+                afterId = template.id();
+            }
+        } while (templates.size() == batchSize && !subscriber.disconnected().get());
+    }
+
+    /**
+     * Set of the last {@code size} added ids, used by the sender thread only.
+     */
+    private static Set<Long> recentIds(int size) {
+        return Collections.newSetFromMap(new LinkedHashMap<>() {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder event(Template template) {
+        return SseEmitter.event()
+                .id(String.valueOf(template.id()))
+                .name(EVENT_NAME)
+                .data(TemplateResponse.fromDomain(template), MediaType.APPLICATION_JSON);
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Template> buffer, AtomicBoolean disconnected) {
+
+        Subscriber(SseEmitter emitter, BlockingQueue<Template> buffer) {
+            this(emitter, buffer, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rest.changes")
+class TemplateChangeFeedProperties {
+
+    /**
+     * Events buffered per subscriber, a subscriber that falls further behind is disconnected and has to resume with
+     * Last-Event-ID.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Period of the comment lines sent while there are no events, keeps proxies from closing idle streams.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Lifetime of a stream, clients reconnect (with Last-Event-ID) afterwards.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Templates read per query when a subscriber resumes with Last-Event-ID.
+     */
+    private int replayBatchSize = 500;
+
+    /**
+     * Ids of the templates sent last remembered per subscriber, a template read by the replay and pushed live as well
+     * is sent once as long as it is among them.
+     */
+    private int sentIdsWindow = 10_000;
+
+    /**
+     * Open streams at most, further subscriptions are rejected until one of them is closed.
+     */
+    private int maxSubscribers = 1_000;
+
+}
@@ -1,57 +1,168 @@
 package com.github.lomasz.spring.boot.template.adapter.in.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.LookupResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.ScrollResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
 import com.github.lomasz.spring.boot.template.application.usecase.AddTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.AddTemplatesUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.EnqueueTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.ExportTemplatesUseCase;
 import com.github.lomasz.spring.boot.template.application.usecase.GetTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.GetTemplatesUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.ScrollTemplatesUseCase;
 import com.github.lomasz.spring.boot.template.application.usecase.SearchTemplatesUseCase;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+@Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/templates")
 @RequiredArgsConstructor
 class TemplateController implements TemplateApiDoc {
 
     private final SearchTemplatesUseCase searchTemplatesUseCase;
     private final AddTemplateUseCase addTemplateUseCase;
+    private final Optional<EnqueueTemplateUseCase> enqueueTemplateUseCase;
+    private final AddTemplatesUseCase addTemplatesUseCase;
     private final GetTemplateUseCase getTemplateUseCase;
+    private final GetTemplatesUseCase getTemplatesUseCase;
+    private final ScrollTemplatesUseCase scrollTemplatesUseCase;
+    private final ExportTemplatesUseCase exportTemplatesUseCase;
+    private final ObjectMapper objectMapper;
+    private final HttpCachingProperties cachingProperties;
+    private final TemplateJsonCache templateJsonCache;
+    private final TemplateChangeFeed changeFeed;
 
     @GetMapping
     public ResponseEntity<SearchResult<TemplateResponse>> search(
             @RequestParam(name = "page", required = false, defaultValue = "0") int page,
             @RequestParam(name = "size", required = false, defaultValue = "20") int size,
             @RequestParam(name = "order", required = false, defaultValue = "ASC") SortDirection sortDirection,
+            @RequestParam(value = "sort", required = false, defaultValue = "name") String sortProperty,
+            @RequestParam(name = "namePrefix", required = false) String namePrefix,
+            @RequestParam(name = "acronym", required = false) String acronym,
+            @RequestParam(name = "budgetMin", required = false) Money budgetMin,
+            @RequestParam(name = "budgetMax", required = false) Money budgetMax,
+            @RequestParam(name = "count", required = false, defaultValue = "EXACT") CountMode countMode) {
+        TemplateFilter filter = new TemplateFilter(namePrefix, acronym, budgetMin, budgetMax);
+        SearchResult<Template> result = searchTemplatesUseCase.execute(
+                new SearchTemplatesUseCase.Input(page, size, sortDirection, sortProperty, filter, countMode)).searchResult();
+        return ResponseEntity.ok()
+                .eTag(TemplateETags.weak(result))
+                .cacheControl(cachingProperties.toCacheControl())
+                .body(SearchResult.from(result, TemplateResponse::fromDomain));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResult<TemplateResponse>> scroll(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size,
+            @RequestParam(name = "order", required = false, defaultValue = "ASC") SortDirection sortDirection,
             @RequestParam(value = "sort", required = false, defaultValue = "name") String sortProperty) {
-        SearchResult<Template> result = searchTemplatesUseCase.execute(new SearchTemplatesUseCase.Input(page, size, sortDirection, sortProperty)).searchResult();
-        return ResponseEntity.ok(SearchResult.from(result, TemplateResponse::fromDomain));
+        ScrollResult<Template> result = scrollTemplatesUseCase.execute(new ScrollTemplatesUseCase.Input(cursor, size, sortDirection, sortProperty)).scrollResult();
+        return ResponseEntity.ok(ScrollResult.from(result, TemplateResponse::fromDomain));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writerFor(TemplateResponse.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                long count = exportTemplatesUseCase.execute(new ExportTemplatesUseCase.Input(template -> {
+                    try {
+                        writer.write(TemplateResponse.fromDomain(template));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })).count();
+                log.info("Exported {} templates", count);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeed.subscribe(lastEventId);
     }
 
     @PostMapping
     public ResponseEntity<Void> add(@RequestBody @Valid CreateTemplateRequest request) {
+        if (enqueueTemplateUseCase.isPresent()) {
+            Long id = enqueueTemplateUseCase.get().execute(new EnqueueTemplateUseCase.Input(request.toDomain())).id();
+            return ResponseEntity.accepted().location(location(id)).build();
+        }
         Long id = addTemplateUseCase.execute(new AddTemplateUseCase.Input(request.toDomain())).id();
-        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+        return ResponseEntity.created(location(id)).build();
+    }
+
+    private static URI location(Long id) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
                 .path("/api/templates/{id}")
                 .buildAndExpand(id)
                 .toUri();
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<CreateTemplatesResponse> addAll(@RequestBody @Valid CreateTemplatesRequest request) {
+        List<Long> ids = addTemplatesUseCase.execute(new AddTemplatesUseCase.Input(request.toDomain())).ids();
+        return ResponseEntity.status(HttpStatus.CREATED).body(new CreateTemplatesResponse(ids));
+    }
 
-        return ResponseEntity.created(location).build();
+    @PostMapping("/lookup")
+    public ResponseEntity<LookupResult<TemplateResponse>> lookup(@RequestBody @Valid TemplateLookupRequest request) {
+        LookupResult<Template> result = getTemplatesUseCase.execute(new GetTemplatesUseCase.Input(request.ids())).lookupResult();
+        return ResponseEntity.ok(LookupResult.from(result, TemplateResponse::fromDomain));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TemplateResponse> getById(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(TemplateResponse.fromDomain(getTemplateUseCase.execute(new GetTemplateUseCase.Input(id)).template()));
+    public ResponseEntity<byte[]> getById(@PathVariable("id") Long id, WebRequest webRequest) {
+        Template template = getTemplateUseCase.execute(new GetTemplateUseCase.Input(id)).template();
+        String eTag = TemplateETags.strong(template);
+        if (webRequest.checkNotModified(eTag)) {
+            // answered before the body is looked up or serialized, the 304 status and ETag are already set
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cachingProperties.toCacheControl())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .cacheControl(cachingProperties.toCacheControl())
+                .body(templateJsonCache.get(template));
     }
 
 }
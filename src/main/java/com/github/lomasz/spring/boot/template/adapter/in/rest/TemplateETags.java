@@ -0,0 +1,40 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import java.util.Objects;
+
+/**
+ * ETags derived from the id and version of the templates, so a conditional request is answered without
+ * serializing (or hashing) the response body.
+ */
+final class TemplateETags {
+
+    private TemplateETags() {
+    }
+
+    static String strong(Template template) {
+        return "\"%d-%d\"".formatted(template.id(), version(template));
+    }
+
+    /**
+     * Weak, because two different pages may in theory share the hash. The query itself is part of the URL, the count
+     * mode and {@code hasNext} are hashed anyway: without a count, {@code hasNext} is all that changes when a match
+     * is added after the page.
+     */
+    static String weak(SearchResult<Template> searchResult) {
+        long hash = Objects.requireNonNullElse(searchResult.totalCount(), -1L);
+        hash = 31 * hash + Boolean.hashCode(searchResult.hasNext());
+        // the name, an enum's identity hash code differs between instances
+        hash = 31 * hash + Objects.hashCode(searchResult.countMode() == null ? null : searchResult.countMode().name());
+        for (Template template : searchResult.items()) {
+            hash = 31 * hash + template.id();
+            hash = 31 * hash + version(template);
+        }
+        return "W/\"%s\"".formatted(Long.toHexString(hash));
+    }
+
+    private static long version(Template template) {
+        return Objects.requireNonNullElse(template.version(), 0L);
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.lomasz.spring.boot.template.application.domain.exception.TechnicalException;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serialized {@link TemplateResponse} JSON keyed by id and version. A changed template gets a new version, so entries
+ * never need to be invalidated, the stale ones are simply evicted.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class TemplateJsonCache {
+
+    static final String CACHE_NAME = "templateJson";
+
+    private final ObjectWriter writer;
+    private final Cache<Key, byte[]> cache;
+
+    TemplateJsonCache(ObjectMapper objectMapper, TemplateJsonCacheProperties properties, MeterRegistry meterRegistry) {
+        this.writer = objectMapper.writerFor(TemplateResponse.class);
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumWeight(properties.getMaximumSize().toBytes())
+                        .weigher((Key key, byte[] json) -> json.length)
+                        .recordStats()
+                        .build()
+                : null;
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    byte[] get(Template template) {
+        if (cache == null || template.version() == null) {
+            return serialize(template);
+        }
+        return cache.get(new Key(template.id(), template.version()), key -> serialize(template));
+    }
+
+    private byte[] serialize(Template template) {
+        try {
+            return writer.writeValueAsBytes(TemplateResponse.fromDomain(template));
+        } catch (JsonProcessingException e) {
+            throw new TechnicalException("Cannot serialize template with id=%s: %s".formatted(template.id(), e.getMessage()));
+        }
+    }
+
+    private record Key(Long id, Long version) {
+    }
+}
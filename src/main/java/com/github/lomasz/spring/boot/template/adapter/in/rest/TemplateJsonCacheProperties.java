@@ -0,0 +1,20 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rest.json-cache")
+class TemplateJsonCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound of the serialized JSON kept in memory.
+     */
+    private DataSize maximumSize = DataSize.ofMegabytes(16);
+
+}
@@ -0,0 +1,13 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+record TemplateLookupRequest(
+
+        @NotNull
+        @Size(min = 1, max = 1000)
+        List<@NotNull Long> ids
+) {
+}
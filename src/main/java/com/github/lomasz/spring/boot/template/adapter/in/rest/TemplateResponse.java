@@ -1,8 +1,8 @@
 package com.github.lomasz.spring.boot.template.adapter.in.rest;
 
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
 import io.swagger.v3.oas.annotations.media.Schema;
-import java.math.BigDecimal;
 
 record TemplateResponse(
 
@@ -15,8 +15,8 @@ record TemplateResponse(
         @Schema(example = "JD")
         String acronym,
 
-        @Schema(example = "1000.00")
-        BigDecimal budget
+        @Schema(type = "number", example = "1000.00")
+        Money budget
 ) {
 
     public static TemplateResponse fromDomain(Template template) {
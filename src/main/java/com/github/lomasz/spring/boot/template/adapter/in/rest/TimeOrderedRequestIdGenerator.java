@@ -0,0 +1,44 @@
+package com.github.lomasz.spring.boot.template.adapter.in.rest;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUIDv7 (RFC 9562) generator: 48 bits of Unix epoch millis, a 12 bit counter making ids monotonic within the
+ * millisecond and 62 random bits. Unlike {@link UUID#randomUUID()} it never touches {@code SecureRandom}, request ids
+ * are correlation keys, not secrets.
+ */
+class TimeOrderedRequestIdGenerator implements RequestIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    private final LongSupplier clock;
+
+    /**
+     * Millis shifted by {@link #COUNTER_BITS} plus the counter of the last generated id. A counter overflow borrows
+     * the next millisecond, so the ids stay strictly increasing.
+     */
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    TimeOrderedRequestIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedRequestIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String generate() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long timestamp = lastTimestamp.accumulateAndGet(now, (last, current) -> Math.max(last + 1, current));
+
+        long millis = timestamp >>> COUNTER_BITS;
+        long counter = timestamp & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (millis << 16) | 0x7000L | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
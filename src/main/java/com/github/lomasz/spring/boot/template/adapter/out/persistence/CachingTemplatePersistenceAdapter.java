@@ -0,0 +1,121 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.lomasz.spring.boot.template.application.domain.model.IdBlock;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.WriteBehindTemplatePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache in front of {@link TemplatePersistenceAdapter#findById(Long)}, "not found" results are cached
+ * as well unless reads are routed to a replica. Creates go straight to the delegate and invalidate the created ids.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "app.cache.templates", name = "enabled", havingValue = "true", matchIfMissing = true)
+class CachingTemplatePersistenceAdapter implements GetTemplatePort, AddTemplatePort, WriteBehindTemplatePort {
+
+    static final String CACHE_NAME = "templates";
+
+    private final TemplatePersistenceAdapter delegate;
+    private final Cache<Long, Optional<Template>> cache;
+
+    CachingTemplatePersistenceAdapter(TemplatePersistenceAdapter delegate,
+                                      TemplateCacheProperties properties,
+                                      ReplicaProperties replicaProperties,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        // a template the replica does not have yet must be looked up again, it expires right away
+        Duration negativeTtl = replicaProperties.isEnabled() ? Duration.ZERO : properties.getNegativeTtl();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new NegativeAwareExpiry(properties.getTtl(), negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Template findById(Long id) {
+        return cache.get(id, delegate::find)
+                .orElseThrow(() -> TemplatePersistenceAdapter.notFound(id));
+    }
+
+    /**
+     * Cached ids are served from the cache, the rest is loaded with a single bulk query (and cached, found or not).
+     */
+    @Override
+    public List<Template> findAllByIds(Collection<Long> ids) {
+        return cache.getAll(ids, this::loadAll).values().stream()
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private Map<Long, Optional<Template>> loadAll(Set<? extends Long> ids) {
+        Map<Long, Optional<Template>> loaded = new HashMap<>();
+        ids.forEach(id -> loaded.put(id, Optional.empty()));
+        delegate.findAllByIds(List.copyOf(ids)).forEach(template -> loaded.put(template.id(), Optional.of(template)));
+        return loaded;
+    }
+
+    @Override
+    public Long create(Template template) {
+        Long id = delegate.create(template);
+        cache.invalidate(id);
+        return id;
+    }
+
+    @Override
+    public List<Long> createAll(List<Template> templates) {
+        List<Long> ids = delegate.createAll(templates);
+        cache.invalidateAll(ids);
+        return ids;
+    }
+
+    @Override
+    public IdBlock reserveIds() {
+        return delegate.reserveIds();
+    }
+
+    /**
+     * Write-behind ids may have been looked up (and cached as not found) before they were committed.
+     */
+    @Override
+    public void insertAll(List<Template> templates) {
+        delegate.insertAll(templates);
+        cache.invalidateAll(templates.stream().map(Template::id).toList());
+    }
+
+    private record NegativeAwareExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Long, Optional<Template>> {
+
+        @Override
+        public long expireAfterCreate(Long key, Optional<Template> value, long currentTime) {
+            return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<Template> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<Template> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
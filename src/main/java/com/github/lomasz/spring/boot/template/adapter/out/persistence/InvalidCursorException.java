@@ -0,0 +1,14 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.BusinessException;
+import java.io.Serial;
+
+class InvalidCursorException extends BusinessException {
+
+    @Serial
+    private static final long serialVersionUID = -2582814506546135358L;
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        return money != null ? money.minorUnits() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long minorUnits) {
+        return minorUnits != null ? Money.ofMinorUnits(minorUnits) : null;
+    }
+}
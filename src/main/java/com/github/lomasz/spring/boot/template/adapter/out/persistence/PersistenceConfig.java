@@ -0,0 +1,11 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@EnableConfigurationProperties({PersistenceProperties.class, TemplateCacheProperties.class, ReplicaProperties.class})
+@ImportRuntimeHints(PersistenceRuntimeHints.class)
+class PersistenceConfig {
+}
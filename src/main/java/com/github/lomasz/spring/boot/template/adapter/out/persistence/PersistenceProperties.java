@@ -0,0 +1,33 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.persistence")
+class PersistenceProperties {
+
+    /**
+     * Number of entities written per JDBC batch, the persistence context is flushed and cleared after each chunk.
+     */
+    private int batchSize = 50;
+
+    /**
+     * Maximum number of ids bound to a single IN list, longer lists are queried in chunks.
+     */
+    private int inClauseChunkSize = 500;
+
+    /**
+     * Age after which an estimated search count is recalculated in the background, the stale value is served meanwhile.
+     */
+    private Duration estimatedCountRefresh = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of filters whose estimated count is kept.
+     */
+    private long estimatedCountMaximumSize = 1_000;
+
+}
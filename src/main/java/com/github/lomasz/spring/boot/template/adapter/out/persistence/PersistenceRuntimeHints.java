@@ -0,0 +1,20 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints for what Spring AOT cannot infer: the converter instantiated by Hibernate, the entity fields
+ * read reflectively by {@link TemplateCursor} and the Liquibase changelogs.
+ */
+class PersistenceRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(MoneyConverter.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(TemplateEntity.class, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.resources().registerPattern("db/changelog/*.yml");
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps the reads of the annotated method on the primary when read-only transactions are routed to a replica, for
+ * reads that must see everything committed so far. Unlike a read-write transaction it does not open the
+ * read-your-writes window of the request.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@interface ReadFromPrimary {
+}
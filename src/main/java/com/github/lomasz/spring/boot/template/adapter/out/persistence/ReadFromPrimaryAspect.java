@@ -0,0 +1,31 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds the {@link ReadFromPrimary} hint to the current thread for the duration of the call, around the transaction
+ * so it is set before the routing data source is asked for a connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class ReadFromPrimaryAspect {
+
+    @Around("@annotation(com.github.lomasz.spring.boot.template.adapter.out.persistence.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ReplicaRoutingDataSource.PRIMARY_REQUESTED.get()) {
+            return joinPoint.proceed();
+        }
+        ReplicaRoutingDataSource.PRIMARY_REQUESTED.set(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingDataSource.PRIMARY_REQUESTED.remove();
+        }
+    }
+}
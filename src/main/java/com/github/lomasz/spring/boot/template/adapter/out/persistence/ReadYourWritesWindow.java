@@ -0,0 +1,39 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.slf4j.MDC;
+
+/**
+ * Remembers the request ids that have written recently. Reads carrying one of them are served by the primary, so a
+ * client sees its own writes even before they reach the replica.
+ */
+class ReadYourWritesWindow {
+
+    /**
+     * Put into the MDC by the request id filter of the REST adapter.
+     */
+    static final String REQUEST_ID_MDC_KEY = "X-Request-ID";
+
+    private final Cache<String, Boolean> writers;
+
+    ReadYourWritesWindow(Duration window, long maximumSize) {
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    void recordWrite() {
+        String requestId = MDC.get(REQUEST_ID_MDC_KEY);
+        if (requestId != null) {
+            writers.put(requestId, Boolean.TRUE);
+        }
+    }
+
+    boolean isOpen() {
+        String requestId = MDC.get(REQUEST_ID_MDC_KEY);
+        return requestId != null && writers.getIfPresent(requestId) != null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks the replica every {@code lag-check-interval} in the background, so the routing decision itself never waits
+ * for the replica. Until the first successful check the replica is considered unusable.
+ */
+@Slf4j
+class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    ReplicaLagMonitor(DataSource replica, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = properties.getLagQuery();
+        this.maxLag = properties.getMaxLag();
+        this.interval = properties.getLagCheckInterval();
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag reported by the lag query, NaN while the replica is not reachable")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.usable ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    boolean isReplicaUsable() {
+        return usable;
+    }
+
+    private void check() {
+        boolean wasUsable = usable;
+        try (Connection connection = replica.getConnection()) {
+            lagSeconds = lag(connection);
+            usable = lagSeconds <= maxLag.toMillis() / 1000.0;
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            log.debug("Replica check failed: {}", e.getMessage());
+        }
+        if (wasUsable && !usable) {
+            log.warn("Replica lags {}s (max {}), reading from the primary", lagSeconds, maxLag);
+        } else if (!wasUsable && usable) {
+            log.info("Replica lags {}s, reading from the replica", lagSeconds);
+        }
+    }
+
+    private double lag(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Replica connection is not valid");
+            }
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("Lag query returned no row");
+            }
+            return resultSet.getDouble(1);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica, the pool itself is configured under {@code app.datasource.replica.hikari}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replica")
+class ReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replica, everything else keeps using
+     * {@code spring.datasource}. A lagging replica may miss rows, so its "not found" results and search pages are not
+     * cached then.
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Creates the schema on the replica with the Liquibase changelog, for local replicas only; a real replica gets it
+     * through replication.
+     */
+    private boolean initializeSchema = false;
+
+    /**
+     * Query returning the replication lag in seconds, e.g. for PostgreSQL
+     * {@code SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)}. Without it only the
+     * availability of the replica is checked.
+     */
+    private String lagQuery;
+
+    /**
+     * Reads fall back to the primary while the replica lags more than this (or is not reachable).
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long after a write the reads of the same request id (X-Request-ID) are served by the primary, should cover
+     * the usual replication lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of request ids remembered for the read-your-writes window.
+     */
+    private long readYourWritesMaximumSize = 100_000;
+
+}
@@ -0,0 +1,76 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Primary/replica routing: the Hikari pool of {@code spring.datasource} stays the primary, a second pool is opened to
+ * the replica and the routing data source in front of both becomes the primary {@link DataSource} bean used by JPA,
+ * JDBC and Liquibase.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                        ReplicaProperties properties, MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, properties, meterRegistry);
+        monitor.start();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    DataSource routingDataSource(@Qualifier("dataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, ReplicaProperties properties,
+                                 MeterRegistry meterRegistry) {
+        ReadYourWritesWindow readYourWritesWindow = new ReadYourWritesWindow(
+                properties.getReadYourWritesWindow(), properties.getReadYourWritesMaximumSize());
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesWindow, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        // the route is chosen when the first statement needs a connection, the transaction is marked read-only by then
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Runs the changelog against the replica before the application serves reads, returned as a plain
+     * {@link InitializingBean}: a {@link SpringLiquibase} bean would replace the auto-configured one of the primary.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "initialize-schema", havingValue = "true")
+    InitializingBean replicaSchemaInitializer(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                              LiquibaseProperties liquibaseProperties, ResourceLoader resourceLoader) {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(replicaDataSource);
+        liquibase.setChangeLog(liquibaseProperties.getChangeLog());
+        liquibase.setResourceLoader(resourceLoader);
+        return liquibase::afterPropertiesSet;
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica unless it lags (or is down) or the request has written within the
+ * read-your-writes window or it runs within a {@link ReadFromPrimary} method; everything else goes to the primary.
+ * The decision relies on the read-only flag of the
+ * current transaction, so it has to be wrapped in a {@code LazyConnectionDataSourceProxy}: the flag is only set
+ * after the transaction manager has asked for a connection.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    /**
+     * Set by {@link ReadFromPrimaryAspect} while a {@link ReadFromPrimary} method runs on the thread.
+     */
+    static final ThreadLocal<Boolean> PRIMARY_REQUESTED = ThreadLocal.withInitial(() -> false);
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final Counter writes;
+    private final Counter readsYourWrites;
+    private final Counter readsRequested;
+    private final Counter readsReplicaUnavailable;
+    private final Counter readsReplica;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                             ReadYourWritesWindow readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.writes = counter(meterRegistry, "primary", "write");
+        this.readsYourWrites = counter(meterRegistry, "primary", "read-your-writes");
+        this.readsRequested = counter(meterRegistry, "primary", "requested");
+        this.readsReplicaUnavailable = counter(meterRegistry, "primary", "replica-unavailable");
+        this.readsReplica = counter(meterRegistry, "replica", "read");
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections obtained through the primary/replica routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesWindow.recordWrite();
+                    }
+                });
+            }
+            writes.increment();
+            return Route.PRIMARY;
+        }
+        if (PRIMARY_REQUESTED.get()) {
+            readsRequested.increment();
+            return Route.PRIMARY;
+        }
+        if (readYourWritesWindow.isOpen()) {
+            readsYourWrites.increment();
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            readsReplicaUnavailable.increment();
+            return Route.PRIMARY;
+        }
+        readsReplica.increment();
+        return Route.REPLICA;
+    }
+}
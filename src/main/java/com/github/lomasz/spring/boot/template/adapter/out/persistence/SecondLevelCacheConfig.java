@@ -0,0 +1,90 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.Serializable;
+import java.net.URI;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level cache backed by Ehcache through JCache: {@link TemplateEntity} by id and the search queries
+ * of {@link TemplateProjectionRepositoryImpl}. The regions are created here with bounded tiers, Hibernate is not
+ * allowed to create missing ones with unbounded defaults.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.persistence.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+class SecondLevelCacheConfig {
+
+    /**
+     * Holds one entry per table, so it never needs to be evicted (an expired timestamp would serve stale queries).
+     */
+    private static final long TIMESTAMPS_HEAP_ENTRIES = 100;
+
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        // an own URI per application context, JCache providers share cache managers by URI
+        CacheManager cacheManager = provider.getCacheManager(URI.create("urn:template:hibernate:" + UUID.randomUUID()),
+                new DefaultConfiguration(getClass().getClassLoader()));
+        cacheManager.createCache(TemplateEntity.CACHE_REGION, region(properties.getEntities()));
+        cacheManager.createCache(TemplateProjectionRepositoryImpl.SEARCH_CACHE_REGION, region(properties.getQueries()));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(properties.getQueries()));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                Eh107Configuration.fromEhcacheCacheConfiguration(CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Serializable.class, Serializable.class, ResourcePoolsBuilder.heap(TIMESTAMPS_HEAP_ENTRIES)).build()));
+        return cacheManager;
+    }
+
+    private static javax.cache.configuration.Configuration<Serializable, Serializable> region(SecondLevelCacheProperties.Region region) {
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(region.getHeapEntries());
+        if (region.getOffHeapSize().toBytes() > 0) {
+            resourcePools = resourcePools.offheap(region.getOffHeapSize().toBytes(), MemoryUnit.B);
+        }
+        CacheConfiguration<Serializable, Serializable> configuration = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Serializable.class, Serializable.class, resourcePools)
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTtl()))
+                .build();
+        return Eh107Configuration.fromEhcacheCacheConfiguration(configuration);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheHibernateProperties(CacheManager hibernateCacheManager,
+                                                                      SecondLevelCacheProperties properties,
+                                                                      ReplicaProperties replicaProperties) {
+        // rows replicated later are not writes Hibernate knows of, they would never invalidate a cached search
+        boolean queryCacheEnabled = properties.isQueryCacheEnabled() && !replicaProperties.isEnabled();
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, queryCacheEnabled);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // the region hit ratios are read from the statistics, without logging them for every session
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    @Bean
+    SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory);
+    }
+}
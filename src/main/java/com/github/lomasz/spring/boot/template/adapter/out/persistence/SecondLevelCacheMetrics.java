@@ -0,0 +1,61 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hit ratio and lookups of each second-level cache region, read from the Hibernate statistics. The ratio is
+ * {@code NaN} until a region has been used.
+ */
+class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        bindRegion(registry, TemplateEntity.CACHE_REGION,
+                () -> statistics.getDomainDataRegionStatistics(TemplateEntity.CACHE_REGION));
+        // a query region is only known to the statistics after its first query
+        bindRegion(registry, TemplateProjectionRepositoryImpl.SEARCH_CACHE_REGION,
+                () -> statistics.getQueryRegionStatistics(TemplateProjectionRepositoryImpl.SEARCH_CACHE_REGION));
+    }
+
+    private static void bindRegion(MeterRegistry registry, String region, Supplier<CacheRegionStatistics> statistics) {
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, SecondLevelCacheMetrics::hitRatio)
+                .description("Share of second-level cache lookups served by the region")
+                .tag("region", region)
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.requests", statistics, s -> count(s, CacheRegionStatistics::getHitCount))
+                .description("Second-level cache lookups")
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.requests", statistics, s -> count(s, CacheRegionStatistics::getMissCount))
+                .description("Second-level cache lookups")
+                .tags("region", region, "result", "miss")
+                .register(registry);
+    }
+
+    private static double hitRatio(Supplier<CacheRegionStatistics> statistics) {
+        long hits = count(statistics, CacheRegionStatistics::getHitCount);
+        long requests = hits + count(statistics, CacheRegionStatistics::getMissCount);
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+
+    private static long count(Supplier<CacheRegionStatistics> statistics, ToLongFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics regionStatistics = statistics.get();
+        return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.persistence.second-level-cache")
+class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Caches search pages and counts, every write to the template table made through Hibernate on this instance
+     * invalidates all of them; writes of other instances or of R2DBC are not seen. Ignored while reads are routed to a
+     * replica ({@code app.datasource.replica.enabled}).
+     */
+    private boolean queryCacheEnabled = false;
+
+    private Region entities = new Region(10_000, DataSize.ofBytes(0), Duration.ofMinutes(10));
+
+    private Region queries = new Region(1_000, DataSize.ofBytes(0), Duration.ofMinutes(10));
+
+    @Getter
+    @Setter
+    static class Region {
+
+        private long heapEntries;
+
+        /**
+         * Size of the off-heap tier below the heap, 0 disables it. Entries are serialized there, so it only pays off
+         * when the heap tier cannot be made large enough.
+         */
+        private DataSize offHeapSize;
+
+        private Duration ttl;
+
+        Region() {
+        }
+
+        Region(long heapEntries, DataSize offHeapSize, Duration ttl) {
+            this.heapEntries = heapEntries;
+            this.offHeapSize = offHeapSize;
+            this.ttl = ttl;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.templates")
+class TemplateCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maximumSize = 10_000;
+
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Time to live of "not found" entries, kept short so that ids created outside of this instance show up quickly.
+     * They are not cached at all while reads are routed to a replica ({@code app.datasource.replica.enabled}).
+     */
+    private Duration negativeTtl = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,62 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts for {@link com.github.lomasz.spring.boot.template.application.domain.model.CountMode#ESTIMATED} searches,
+ * cached per filter. The first search of a filter runs the count query, afterwards it is recalculated in the
+ * background once older than {@code app.persistence.estimated-count-refresh}. Templates created by this instance are
+ * added once committed, deletes and writes of other instances only show up after the next refresh. A refresh adjusts
+ * the cached count in place, so templates added while its query runs are kept (and counted twice if the query already
+ * sees them).
+ */
+@Component
+class TemplateCountEstimator {
+
+    static final String CACHE_NAME = "templateCounts";
+
+    private final LoadingCache<TemplateFilter, AtomicLong> counts;
+
+    TemplateCountEstimator(TemplateRepository templateRepository, PersistenceProperties properties, MeterRegistry meterRegistry) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(properties.getEstimatedCountMaximumSize())
+                .refreshAfterWrite(properties.getEstimatedCountRefresh())
+                .recordStats()
+                .build(new CacheLoader<TemplateFilter, AtomicLong>() {
+                    @Override
+                    public AtomicLong load(TemplateFilter filter) {
+                        return new AtomicLong(templateRepository.count(TemplateSpecifications.matching(filter)));
+                    }
+
+                    @Override
+                    public AtomicLong reload(TemplateFilter filter, AtomicLong count) {
+                        long before = count.get();
+                        count.addAndGet(templateRepository.count(TemplateSpecifications.matching(filter)) - before);
+                        return count;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, CACHE_NAME);
+    }
+
+    long estimate(TemplateFilter filter) {
+        return counts.get(filter).get();
+    }
+
+    void created(Collection<Template> templates) {
+        counts.asMap().forEach((filter, count) -> {
+            long matching = templates.stream().filter(filter::matches).count();
+            if (matching > 0) {
+                count.addAndGet(matching);
+            }
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+/**
+ * Opaque continuation token of the keyset pagination. Holds the sort settings it was issued for
+ * and the (sortProperty, id) tuple of the last returned row.
+ */
+record TemplateCursor(SortDirection sortDirection, String sortProperty, Long id, String value) {
+
+    private static final String SEPARATOR = ":";
+
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    static TemplateCursor of(TemplateEntity last, SortDirection sortDirection, String sortProperty) {
+        Object value = PropertyAccessorFactory.forDirectFieldAccess(last).getPropertyValue(sortProperty);
+        return new TemplateCursor(sortDirection, sortProperty, last.getId(), CONVERSION_SERVICE.convert(value, String.class));
+    }
+
+    static TemplateCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return new TemplateCursor(SortDirection.valueOf(parts[0]), parts[1], Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, sortDirection.name(), sortProperty, id.toString(), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Object typedValue(Class<?> type) {
+        return CONVERSION_SERVICE.convert(value, type);
+    }
+
+    boolean matches(SortDirection sortDirection, String sortProperty) {
+        return this.sortDirection == sortDirection && this.sortProperty.equals(sortProperty);
+    }
+}
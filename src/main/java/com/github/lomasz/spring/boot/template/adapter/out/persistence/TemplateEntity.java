@@ -1,18 +1,24 @@
 package com.github.lomasz.spring.boot.template.adapter.out.persistence;
 
+import com.github.lomasz.spring.boot.template.application.domain.model.IdBlock;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Builder
 @Data
@@ -20,12 +26,16 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Table(name = "template")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TemplateEntity.CACHE_REGION)
 public class TemplateEntity {
 
-    private static final String SEQUENCE_NAME = "template_seq";
+    static final String SEQUENCE_NAME = "template_seq";
+
+    static final String CACHE_REGION = "template";
 
     @Id
-    @SequenceGenerator(name = SEQUENCE_NAME, sequenceName = SEQUENCE_NAME, allocationSize = 1)
+    @SequenceGenerator(name = SEQUENCE_NAME, sequenceName = SEQUENCE_NAME, allocationSize = IdBlock.SEQUENCE_INCREMENT)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE_NAME)
     private Long id;
 
@@ -35,8 +45,13 @@ public class TemplateEntity {
     @Column(length = 5, nullable = false)
     private String acronym;
 
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "budget_minor_units", nullable = false)
+    private Money budget;
+
+    @Version
     @Column(nullable = false)
-    private BigDecimal budget;
+    private Long version;
 
     public static TemplateEntity fromDomain(Template template) {
         return TemplateEntity.builder()
@@ -47,6 +62,6 @@ public class TemplateEntity {
     }
 
     public Template toDomain() {
-        return new Template(this.id, this.name, this.acronym, this.budget);
+        return new Template(this.id, this.name, this.acronym, this.budget, this.version);
     }
 }
@@ -1,49 +1,180 @@
 package com.github.lomasz.spring.boot.template.adapter.out.persistence;
 
 import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.IdBlock;
+import com.github.lomasz.spring.boot.template.application.domain.model.ScrollResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
 import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.ExportTemplatePort;
 import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
 import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.WriteBehindTemplatePort;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-class TemplatePersistenceAdapter implements AddTemplatePort, SearchTemplatePort, GetTemplatePort {
+class TemplatePersistenceAdapter implements AddTemplatePort, SearchTemplatePort, GetTemplatePort, ExportTemplatePort,
+        WriteBehindTemplatePort {
+
+    private static final String INSERT_WITH_ID_SQL =
+            "INSERT INTO template (id, name, acronym, budget_minor_units, version) VALUES (?, ?, ?, ?, 0)";
 
     private final TemplateRepository templateRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final PersistenceProperties properties;
+    private final TemplateCountEstimator countEstimator;
 
     @Override
-    public SearchResult<Template> search(int page, int size, SortDirection sortDirection, String sortProperty) {
-        Page<TemplateEntity> resultPage;
+    @Transactional(readOnly = true)
+    public SearchResult<Template> search(TemplateFilter filter, int page, int size, SortDirection sortDirection, String sortProperty,
+                                         CountMode countMode) {
+        Specification<TemplateEntity> specification = TemplateSpecifications.matching(filter);
+        PageRequest pageRequest = PageRequest.of(page, size, mapDirection(sortDirection), sortProperty);
         try {
-            resultPage = templateRepository.findAll(PageRequest.of(page, size, mapDirection(sortDirection), sortProperty));
+            return switch (countMode) {
+                case EXACT -> exactPage(specification, pageRequest);
+                case NONE -> uncountedPage(specification, pageRequest);
+                case ESTIMATED -> estimatedPage(filter, specification, pageRequest);
+            };
         } catch (PropertyReferenceException e) {
             throw new NoSortPropertyException("No sort property found: " + e.getPropertyName());
         }
-        List<Template> items = resultPage.getContent().stream()
-                .map(TemplateEntity::toDomain)
-                .toList();
+    }
 
+    private SearchResult<Template> exactPage(Specification<TemplateEntity> specification, PageRequest pageRequest) {
+        Page<Template> resultPage = templateRepository.findAllProjected(specification, pageRequest);
         return new SearchResult<>(
-                items,
+                resultPage.getContent(),
                 resultPage.getTotalElements(),
                 resultPage.getPageable().getPageNumber(),
                 resultPage.getPageable().getPageSize(),
-                resultPage.getTotalPages()
+                resultPage.getTotalPages(),
+                resultPage.hasNext(),
+                CountMode.EXACT
         );
     }
 
+    private SearchResult<Template> uncountedPage(Specification<TemplateEntity> specification, PageRequest pageRequest) {
+        Slice<Template> slice = templateRepository.findSliceProjected(specification, pageRequest);
+        return new SearchResult<>(slice.getContent(), null, pageRequest.getPageNumber(), pageRequest.getPageSize(), null,
+                slice.hasNext(), CountMode.NONE);
+    }
+
+    private SearchResult<Template> estimatedPage(TemplateFilter filter, Specification<TemplateEntity> specification,
+                                                 PageRequest pageRequest) {
+        Slice<Template> slice = templateRepository.findSliceProjected(specification, pageRequest);
+        long seen = pageRequest.getOffset() + slice.getNumberOfElements();
+        long totalCount;
+        if (!slice.hasNext() && (slice.hasContent() || pageRequest.getPageNumber() == 0)) {
+            // the last page tells the exact count anyway
+            totalCount = seen;
+        } else {
+            // keeps the estimate consistent with what the page itself has shown
+            totalCount = Math.max(countEstimator.estimate(filter), slice.hasNext() ? seen + 1 : seen);
+        }
+        int pages = (int) ((totalCount + pageRequest.getPageSize() - 1) / pageRequest.getPageSize());
+        return new SearchResult<>(slice.getContent(), totalCount, pageRequest.getPageNumber(), pageRequest.getPageSize(), pages,
+                slice.hasNext(), CountMode.ESTIMATED);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ScrollResult<Template> scroll(String cursor, int size, SortDirection sortDirection, String sortProperty) {
+        Sort.Direction direction = mapDirection(sortDirection);
+        Sort sort = Sort.by(direction, sortProperty).and(Sort.by(direction, TemplateSpecifications.ID));
+        Specification<TemplateEntity> specification = seekSpecification(cursor, sortDirection, sortProperty);
+
+        // one extra row tells whether there is a next slice, so no count query is needed
+        List<TemplateEntity> entities = templateRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(size + 1).all());
+
+        boolean hasNext = entities.size() > size;
+        List<TemplateEntity> slice = hasNext ? entities.subList(0, size) : entities;
+        String nextCursor = hasNext
+                ? TemplateCursor.of(slice.getLast(), sortDirection, sortProperty).encode()
+                : null;
+
+        List<Template> items = slice.stream()
+                .map(TemplateEntity::toDomain)
+                .toList();
+
+        return new ScrollResult<>(items, size, nextCursor);
+    }
+
+    /**
+     * Read from the primary when reads are routed to a replica: a lagging replica would skip the templates committed
+     * just before a change feed subscriber resumes.
+     */
+    @Override
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public List<Template> findAfterId(long afterId, int limit) {
+        return templateRepository.findProjectedByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Adds the templates to the estimated counts once they are committed, a rolled back insert leaves them untouched.
+     */
+    private void countCreated(List<Template> templates) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // saved by the repository in a transaction of its own, which has been committed already
+            countEstimator.created(templates);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                countEstimator.created(templates);
+            }
+        });
+    }
+
+    private Specification<TemplateEntity> seekSpecification(String cursor, SortDirection sortDirection, String sortProperty) {
+        try {
+            PropertyPath.from(sortProperty, TemplateEntity.class);
+        } catch (PropertyReferenceException e) {
+            throw new NoSortPropertyException("No sort property found: " + e.getPropertyName());
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return TemplateSpecifications.unrestricted();
+        }
+        TemplateCursor templateCursor = TemplateCursor.decode(cursor);
+        if (!templateCursor.matches(sortDirection, sortProperty)) {
+            throw new InvalidCursorException("Cursor was issued for a different sort order");
+        }
+        return TemplateSpecifications.after(templateCursor);
+    }
+
     private Sort.Direction mapDirection(SortDirection sortDirection) {
         return switch (sortDirection) {
             case ASC -> Sort.Direction.ASC;
@@ -53,16 +184,120 @@ class TemplatePersistenceAdapter implements AddTemplatePort, SearchTemplatePort,
 
     @Override
     public Long create(Template template) {
-        log.info("Saving new object: {}", template);
         TemplateEntity savedEntity = templateRepository.save(TemplateEntity.fromDomain(template));
-        log.info("New entity saved in the database successfully: {}", savedEntity);
+        countCreated(List.of(template));
+        log.atInfo()
+                .setMessage("Template saved")
+                .addKeyValue("id", savedEntity.getId())
+                .addKeyValue("acronym", savedEntity.getAcronym())
+                .log();
         return savedEntity.getId();
     }
 
     @Override
+    @Transactional
+    public List<Long> createAll(List<Template> templates) {
+        int batchSize = properties.getBatchSize();
+        List<Long> ids = new ArrayList<>(templates.size());
+        for (int i = 0; i < templates.size(); i++) {
+            TemplateEntity entity = TemplateEntity.fromDomain(templates.get(i));
+            entityManager.persist(entity);
+            ids.add(entity.getId());
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        countCreated(templates);
+        log.atInfo()
+                .setMessage("Templates saved")
+                .addKeyValue("count", ids.size())
+                .log();
+        return ids;
+    }
+
+    /**
+     * Takes one increment of {@code template_seq} the same way Hibernate's pooled optimizer does: the returned value
+     * is the last id of the block, so the ids never collide with the ones generated for {@link #create}.
+     */
+    @Override
+    @Transactional
+    public IdBlock reserveIds() {
+        String sql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(TemplateEntity.SEQUENCE_NAME);
+        long last = ((Number) entityManager.createNativeQuery(sql).getSingleResult()).longValue();
+        return IdBlock.endingAt(last);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Template> templates) {
+        // plain JDBC, Hibernate refuses to persist an entity with an assigned id into a generated id column
+        jdbcTemplate.batchUpdate(INSERT_WITH_ID_SQL, templates, properties.getBatchSize(), (statement, template) -> {
+            statement.setLong(1, template.id());
+            statement.setString(2, template.name());
+            statement.setString(3, template.acronym());
+            statement.setLong(4, template.budget().minorUnits());
+        });
+        countCreated(templates);
+        // JDBC writes bypass Hibernate's update timestamps, cached searches would not see the new rows otherwise
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+                        .getCache()
+                        .evictQueryRegion(TemplateProjectionRepositoryImpl.SEARCH_CACHE_REGION);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Template findById(Long id) {
-        return templateRepository.findById(id)
-                .map(TemplateEntity::toDomain)
-                .orElseThrow(() -> new NotFoundException("Template with id=%s not found".formatted(id)));
+        return find(id).orElseThrow(() -> notFound(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Template> findAllByIds(Collection<Long> ids) {
+        List<Long> idList = List.copyOf(ids);
+        int chunkSize = properties.getInClauseChunkSize();
+        List<Template> templates = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += chunkSize) {
+            templates.addAll(templateRepository.findProjectedByIdIn(idList.subList(from, Math.min(from + chunkSize, idList.size()))));
+        }
+        return templates;
+    }
+
+    /**
+     * Loads the entity rather than a projection, so repeated reads are served by the second-level cache.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Template> find(Long id) {
+        return templateRepository.findById(id).map(TemplateEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAll(Consumer<Template> consumer) {
+        long count = 0;
+        try (Stream<TemplateEntity> entities = templateRepository.streamAll()) {
+            Iterator<TemplateEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                TemplateEntity entity = iterator.next();
+                consumer.accept(entity.toDomain());
+                // keeps the persistence context (and heap) flat regardless of the table size
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static NotFoundException notFound(Long id) {
+        return new NotFoundException("Template with id=%s not found".formatted(id));
     }
 }
@@ -0,0 +1,18 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+interface TemplateProjectionRepository {
+
+    Page<Template> findAllProjected(Specification<TemplateEntity> specification, Pageable pageable);
+
+    /**
+     * Same query as {@link #findAllProjected} without the count, one extra row tells whether there is a next page.
+     */
+    Slice<Template> findSliceProjected(Specification<TemplateEntity> specification, Pageable pageable);
+
+}
@@ -0,0 +1,82 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Specification based search that selects straight into the {@link Template} record (constructor projection),
+ * so no {@link TemplateEntity} is hydrated or tracked by the persistence context. Pages and counts are cacheable in
+ * {@link #SEARCH_CACHE_REGION}, Hibernate invalidates them whenever the template table is written through it.
+ */
+@RequiredArgsConstructor
+class TemplateProjectionRepositoryImpl implements TemplateProjectionRepository {
+
+    static final String SEARCH_CACHE_REGION = "template-search";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Template> findAllProjected(Specification<TemplateEntity> specification, Pageable pageable) {
+        List<Template> content = findProjected(specification, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Slice<Template> findSliceProjected(Specification<TemplateEntity> specification, Pageable pageable) {
+        List<Template> content = findProjected(specification, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private List<Template> findProjected(Specification<TemplateEntity> specification, Pageable pageable, int maxResults) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Template> query = builder.createQuery(Template.class);
+        Root<TemplateEntity> root = query.from(TemplateEntity.class);
+        query.select(builder.construct(Template.class,
+                root.get("id"), root.get("name"), root.get("acronym"), root.get("budget"), root.get("version")));
+        applySpecification(specification, root, query, builder);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, SEARCH_CACHE_REGION)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    private long count(Specification<TemplateEntity> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<TemplateEntity> root = query.from(TemplateEntity.class);
+        query.select(builder.count(root));
+        applySpecification(specification, root, query, builder);
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, SEARCH_CACHE_REGION)
+                .getSingleResult();
+    }
+
+    private static void applySpecification(Specification<TemplateEntity> specification, Root<TemplateEntity> root,
+                                           CriteriaQuery<?> query, CriteriaBuilder builder) {
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.lomasz.spring.boot.template.adapter.out.persistence;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+final class TemplateSpecifications {
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String ACRONYM = "acronym";
+    static final String BUDGET = "budget";
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TemplateSpecifications() {
+    }
+
+    static Specification<TemplateEntity> unrestricted() {
+        return (root, query, builder) -> null;
+    }
+
+    static Specification<TemplateEntity> matching(TemplateFilter filter) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (StringUtils.hasText(filter.namePrefix())) {
+                predicates.add(builder.like(root.get(NAME), escapeLike(filter.namePrefix()) + "%", LIKE_ESCAPE));
+            }
+            if (StringUtils.hasText(filter.acronym())) {
+                predicates.add(builder.equal(root.get(ACRONYM), filter.acronym()));
+            }
+            if (filter.budgetMin() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.<Money>get(BUDGET), filter.budgetMin()));
+            }
+            if (filter.budgetMax() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.<Money>get(BUDGET), filter.budgetMax()));
+            }
+            return predicates.isEmpty() ? null : builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Seek predicate for keyset pagination: rows strictly after the cursor in (sortProperty, id) order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Specification<TemplateEntity> after(TemplateCursor cursor) {
+        return (root, query, builder) -> {
+            Path<Comparable> sortPath = root.get(cursor.sortProperty());
+            Path<Long> idPath = root.get(ID);
+            Comparable value = (Comparable) cursor.typedValue(sortPath.getJavaType());
+
+            return switch (cursor.sortDirection()) {
+                case ASC -> builder.or(
+                        builder.greaterThan(sortPath, value),
+                        builder.and(builder.equal(sortPath, value), builder.greaterThan(idPath, cursor.id())));
+                case DESC -> builder.or(
+                        builder.lessThan(sortPath, value),
+                        builder.and(builder.equal(sortPath, value), builder.lessThan(idPath, cursor.id())));
+            };
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
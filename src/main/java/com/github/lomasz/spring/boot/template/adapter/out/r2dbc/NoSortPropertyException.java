@@ -0,0 +1,14 @@
+package com.github.lomasz.spring.boot.template.adapter.out.r2dbc;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.BusinessException;
+import java.io.Serial;
+
+class NoSortPropertyException extends BusinessException {
+
+    @Serial
+    private static final long serialVersionUID = 4211190653254470392L;
+
+    public NoSortPropertyException(String message) {
+        super(message);
+    }
+}
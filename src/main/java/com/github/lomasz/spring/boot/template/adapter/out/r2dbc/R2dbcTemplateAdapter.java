@@ -0,0 +1,159 @@
+package com.github.lomasz.spring.boot.template.adapter.out.r2dbc;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveAddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveGetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveSearchTemplatePort;
+import io.r2dbc.spi.Readable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking persistence of templates with plain SQL over R2DBC, against the same schema as the JPA adapter.
+ * {@link CountMode#ESTIMATED} is not supported here, such searches are counted exactly.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+class R2dbcTemplateAdapter implements ReactiveAddTemplatePort, ReactiveGetTemplatePort, ReactiveSearchTemplatePort {
+
+    private static final String SELECT_SQL = "SELECT id, name, acronym, budget_minor_units, version FROM template";
+    private static final String COUNT_SQL = "SELECT count(*) FROM template";
+    private static final String INSERT_SQL = "INSERT INTO template (id, name, acronym, budget_minor_units, version) "
+            + "VALUES (:id, :name, :acronym, :budget, 0)";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "acronym", "acronym",
+            "budget", "budget_minor_units");
+
+    private final DatabaseClient databaseClient;
+    private final TemplateIdAllocator idAllocator;
+
+    @Override
+    public Mono<Long> create(Template template) {
+        return idAllocator.nextId()
+                .flatMap(id -> databaseClient.sql(INSERT_SQL)
+                        .bind("id", id)
+                        .bind("name", template.name())
+                        .bind("acronym", template.acronym())
+                        .bind("budget", template.budget().minorUnits())
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(id));
+    }
+
+    @Override
+    public Mono<Template> findById(Long id) {
+        return databaseClient.sql(SELECT_SQL + " WHERE id = :id")
+                .bind("id", id)
+                .map(R2dbcTemplateAdapter::toDomain)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Template with id=%s not found".formatted(id))));
+    }
+
+    @Override
+    public Mono<SearchResult<Template>> search(TemplateFilter filter, int page, int size, SortDirection sortDirection, String sortProperty,
+                                               CountMode countMode) {
+        String sortColumn = SORT_COLUMNS.get(sortProperty);
+        if (sortColumn == null) {
+            return Mono.error(new NoSortPropertyException("No sort property found: " + sortProperty));
+        }
+        Where where = Where.of(filter);
+        boolean counted = countMode != CountMode.NONE;
+        // one extra row tells whether there is a next page without counting
+        int limit = counted ? size : size + 1;
+        String sql = "%s%s ORDER BY %s %s LIMIT %d OFFSET %d".formatted(
+                SELECT_SQL, where.sql(), sortColumn, sortDirection.name(), limit, (long) page * size);
+        Mono<List<Template>> items = where.bindTo(databaseClient.sql(sql))
+                .map(R2dbcTemplateAdapter::toDomain)
+                .all()
+                .collectList();
+
+        if (!counted) {
+            return items.map(templates -> {
+                boolean hasNext = templates.size() > size;
+                return new SearchResult<>(hasNext ? templates.subList(0, size) : templates, null, page, size, null,
+                        hasNext, CountMode.NONE);
+            });
+        }
+        Mono<Long> totalCount = where.bindTo(databaseClient.sql(COUNT_SQL + where.sql()))
+                .map(row -> row.get(0, Long.class))
+                .one();
+        return Mono.zip(items, totalCount, (templates, total) -> {
+            int pages = (int) ((total + size - 1) / size);
+            return new SearchResult<>(templates, total, page, size, pages, page + 1 < pages, CountMode.EXACT);
+        });
+    }
+
+    private static Template toDomain(Readable row) {
+        return new Template(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("acronym", String.class),
+                Money.ofMinorUnits(row.get("budget_minor_units", Long.class)),
+                row.get("version", Long.class));
+    }
+
+    /**
+     * WHERE clause of a search with its named parameters, the counterpart of the JPA specification.
+     */
+    private record Where(String sql, Map<String, Object> parameters) {
+
+        private static final char LIKE_ESCAPE = '\\';
+
+        static Where of(TemplateFilter filter) {
+            List<String> conditions = new ArrayList<>();
+            Map<String, Object> parameters = new LinkedHashMap<>();
+            if (hasText(filter.namePrefix())) {
+                conditions.add("name LIKE :namePrefix ESCAPE '" + LIKE_ESCAPE + "'");
+                parameters.put("namePrefix", escapeLike(filter.namePrefix()) + "%");
+            }
+            if (hasText(filter.acronym())) {
+                conditions.add("acronym = :acronym");
+                parameters.put("acronym", filter.acronym());
+            }
+            if (filter.budgetMin() != null) {
+                conditions.add("budget_minor_units >= :budgetMin");
+                parameters.put("budgetMin", filter.budgetMin().minorUnits());
+            }
+            if (filter.budgetMax() != null) {
+                conditions.add("budget_minor_units <= :budgetMax");
+                parameters.put("budgetMax", filter.budgetMax().minorUnits());
+            }
+            return new Where(conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions), parameters);
+        }
+
+        DatabaseClient.GenericExecuteSpec bindTo(DatabaseClient.GenericExecuteSpec spec) {
+            DatabaseClient.GenericExecuteSpec bound = spec;
+            for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+                bound = bound.bind(parameter.getKey(), parameter.getValue());
+            }
+            return bound;
+        }
+
+        private static boolean hasText(String value) {
+            return value != null && !value.isBlank();
+        }
+
+        private static String escapeLike(String value) {
+            return value.replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+        }
+    }
+}
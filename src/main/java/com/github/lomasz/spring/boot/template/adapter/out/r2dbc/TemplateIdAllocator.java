@@ -0,0 +1,69 @@
+package com.github.lomasz.spring.boot.template.adapter.out.r2dbc;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.IdBlock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands out ids from {@code template_seq} the same way Hibernate's pooled optimizer does for the JPA adapter: one
+ * sequence call reserves the {@link IdBlock#endingAt(long) block ending at the returned value}, so both adapters can
+ * insert into the same table. Blocks reserved concurrently are not merged, the ids left over in the replaced block are
+ * skipped.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+class TemplateIdAllocator {
+
+    private static final String NEXT_VALUE_SQL = "SELECT NEXT VALUE FOR template_seq";
+
+    private final DatabaseClient databaseClient;
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(1, 0));
+
+    Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            long id = current.get().next();
+            return id > 0 ? Mono.just(id) : reserve();
+        });
+    }
+
+    private Mono<Long> reserve() {
+        return databaseClient.sql(NEXT_VALUE_SQL)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(last -> {
+                    Block block = new Block(IdBlock.endingAt(last));
+                    long id = block.next();
+                    current.set(block);
+                    return id;
+                });
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long last;
+
+        private Block(IdBlock ids) {
+            this(ids.first(), ids.last());
+        }
+
+        private Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+
+        /**
+         * @return the next id or {@code -1} when the block is used up
+         */
+        long next() {
+            long id = next.getAndIncrement();
+            return id <= last ? id : -1;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.lomasz.spring.boot.template.application.domain.exception;
+
+import java.io.Serial;
+
+public class CapacityExceededException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 4183920571938472615L;
+
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.lomasz.spring.boot.template.application.domain.model;
+
+/**
+ * How the total number of matches of a search is calculated.
+ */
+public enum CountMode {
+
+    /**
+     * A {@code count(*)} query per search, {@code totalCount} and {@code pages} are exact.
+     */
+    EXACT,
+
+    /**
+     * No count at all, only {@code hasNext} is known.
+     */
+    NONE,
+
+    /**
+     * A cached count, refreshed in the background and bumped by creates. May lag behind deletes and other instances.
+     */
+    ESTIMATED
+}
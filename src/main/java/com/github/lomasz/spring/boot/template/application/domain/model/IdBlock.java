@@ -0,0 +1,26 @@
+package com.github.lomasz.spring.boot.template.application.domain.model;
+
+/**
+ * Consecutive ids reserved for exclusive use by this instance, both ends inclusive.
+ */
+public record IdBlock(
+        long first,
+        long last
+) {
+
+    /**
+     * Ids reserved by one call of {@code template_seq}, must match its increment (see
+     * {@code db/changelog/02-pooled-template-seq.yml}). Hibernate's pooled optimizer and the other allocators of the
+     * sequence rely on it to share the table.
+     */
+    public static final int SEQUENCE_INCREMENT = 50;
+
+    /**
+     * Block reserved by a call of {@code template_seq} that returned {@code last}, the same block Hibernate's pooled
+     * optimizer takes for that value.
+     */
+    public static IdBlock endingAt(long last) {
+        // the first value of the sequence is handed out on its own by the pooled optimizer
+        return new IdBlock(Math.max(1, last - SEQUENCE_INCREMENT + 1), last);
+    }
+}
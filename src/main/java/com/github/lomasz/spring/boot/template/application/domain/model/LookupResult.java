@@ -0,0 +1,23 @@
+package com.github.lomasz.spring.boot.template.application.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @param items      found objects in the order of the requested ids
+ * @param missingIds requested ids without an object
+ */
+public record LookupResult<T>(
+        List<T> items,
+        List<Long> missingIds
+) {
+
+    public static <T, R> LookupResult<R> from(LookupResult<T> source, Function<T, R> mapper) {
+        List<R> mappedItems = source.items().stream()
+                .map(mapper)
+                .toList();
+
+        return new LookupResult<>(mappedItems, source.missingIds());
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.lomasz.spring.boot.template.application.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point amount with two decimal places, stored as a number of minor units (e.g. cents).
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+
+    private static final long MINOR_UNITS_PER_UNIT = 100;
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public static Money of(long units) {
+        return new Money(Math.multiplyExact(units, MINOR_UNITS_PER_UNIT));
+    }
+
+    /**
+     * @throws ArithmeticException when the amount has more than {@link #SCALE} decimal places or does not fit
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.movePointRight(SCALE).longValueExact());
+    }
+
+    /**
+     * Parses plain decimal notation ({@code 1000}, {@code -12.5}, {@code 1000.00}) without going through {@link BigDecimal}.
+     *
+     * @throws NumberFormatException when the value is not a plain decimal with at most {@link #SCALE} decimal places
+     */
+    public static Money valueOf(String value) {
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+        long units = 0;
+        long fraction = 0;
+        int fractionDigits = -1;
+        boolean hasDigits = false;
+        try {
+            for (; index < length; index++) {
+                char c = value.charAt(index);
+                if (c == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                } else if (c < '0' || c > '9') {
+                    throw new NumberFormatException("Invalid amount: " + value);
+                } else if (fractionDigits >= 0) {
+                    if (++fractionDigits > SCALE) {
+                        throw new NumberFormatException("Amount has more than %d decimal places: %s".formatted(SCALE, value));
+                    }
+                    fraction = fraction * 10 + (c - '0');
+                    hasDigits = true;
+                } else {
+                    units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+                    hasDigits = true;
+                }
+            }
+            if (!hasDigits) {
+                throw new NumberFormatException("Invalid amount: " + value);
+            }
+            for (int digits = Math.max(fractionDigits, 0); digits < SCALE; digits++) {
+                fraction *= 10;
+            }
+            long minorUnits = Math.addExact(Math.multiplyExact(units, MINOR_UNITS_PER_UNIT), fraction);
+            return new Money(negative ? -minorUnits : minorUnits);
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + value);
+        }
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Shortest plain decimal notation, e.g. {@code 1000}, {@code 1000.5}, {@code 1000.05}.
+     */
+    public String toPlainString() {
+        long units = minorUnits / MINOR_UNITS_PER_UNIT;
+        int cents = (int) Math.abs(minorUnits % MINOR_UNITS_PER_UNIT);
+        StringBuilder result = new StringBuilder(24);
+        if (minorUnits < 0 && units == 0) {
+            result.append('-');
+        }
+        result.append(units);
+        if (cents != 0) {
+            result.append('.');
+            if (cents < 10) {
+                result.append('0').append(cents);
+            } else if (cents % 10 == 0) {
+                result.append(cents / 10);
+            } else {
+                result.append(cents);
+            }
+        }
+        return result.toString();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.lomasz.spring.boot.template.application.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record ScrollResult<T>(
+        List<T> items,
+        Integer limit,
+        String nextCursor
+) {
+
+    public static <T, R> ScrollResult<R> from(ScrollResult<T> source, Function<T, R> mapper) {
+        List<R> mappedItems = source.items().stream()
+                .map(mapper)
+                .toList();
+
+        return new ScrollResult<>(mappedItems, source.limit(), source.nextCursor());
+    }
+
+}
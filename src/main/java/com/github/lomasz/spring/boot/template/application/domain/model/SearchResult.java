@@ -3,20 +3,31 @@ package com.github.lomasz.spring.boot.template.application.domain.model;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * @param totalCount {@code null} for {@link CountMode#NONE}
+ * @param pages      {@code null} for {@link CountMode#NONE}
+ */
 public record SearchResult<T>(
         List<T> items,
         Long totalCount,
         Integer page,
         Integer limit,
-        Integer pages
+        Integer pages,
+        boolean hasNext,
+        CountMode countMode
 ) {
 
+    public SearchResult(List<T> items, Long totalCount, Integer page, Integer limit, Integer pages) {
+        this(items, totalCount, page, limit, pages, page + 1 < pages, CountMode.EXACT);
+    }
+
     public static <T, R> SearchResult<R> from(SearchResult<T> source, Function<T, R> mapper) {
         List<R> mappedItems = source.items().stream()
                 .map(mapper)
                 .toList();
 
-        return new SearchResult<>(mappedItems, source.totalCount(), source.page(), source.limit(), source.pages());
+        return new SearchResult<>(mappedItems, source.totalCount(), source.page(), source.limit(), source.pages(),
+                source.hasNext(), source.countMode());
     }
 
 }
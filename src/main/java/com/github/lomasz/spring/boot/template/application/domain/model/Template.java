@@ -1,10 +1,17 @@
 package com.github.lomasz.spring.boot.template.application.domain.model;
 
-import java.math.BigDecimal;
-
+/**
+ * @param version incremented by every change of the stored template, {@code null} for not yet stored ones
+ */
 public record Template(
         Long id,
         String name,
         String acronym,
-        BigDecimal budget
-) { }
+        Money budget,
+        Long version
+) {
+
+    public Template(Long id, String name, String acronym, Money budget) {
+        this(id, name, acronym, budget, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.lomasz.spring.boot.template.application.domain.model;
+
+/**
+ * Published once the template is stored, listeners run after the surrounding transaction (if any) commits.
+ */
+public record TemplateCreatedEvent(Template template) {
+}
@@ -0,0 +1,28 @@
+package com.github.lomasz.spring.boot.template.application.domain.model;
+
+public record TemplateFilter(
+        String namePrefix,
+        String acronym,
+        Money budgetMin,
+        Money budgetMax
+) {
+
+    public static TemplateFilter none() {
+        return new TemplateFilter(null, null, null, null);
+    }
+
+    /**
+     * In-memory counterpart of the search query, e.g. to tell whether a new template affects a cached count.
+     */
+    public boolean matches(Template template) {
+        return (!hasText(namePrefix) || template.name().startsWith(namePrefix))
+                && (!hasText(acronym) || template.acronym().equals(acronym))
+                && (budgetMin == null || template.budget().compareTo(budgetMin) >= 0)
+                && (budgetMax == null || template.budget().compareTo(budgetMax) <= 0);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+}
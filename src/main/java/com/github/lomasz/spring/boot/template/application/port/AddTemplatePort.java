@@ -1,9 +1,12 @@
 package com.github.lomasz.spring.boot.template.application.port;
 
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import java.util.List;
 
 public interface AddTemplatePort {
 
     Long create(Template template);
 
+    List<Long> createAll(List<Template> templates);
+
 }
@@ -0,0 +1,10 @@
+package com.github.lomasz.spring.boot.template.application.port;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import java.util.function.Consumer;
+
+public interface ExportTemplatePort {
+
+    long exportAll(Consumer<Template> consumer);
+
+}
@@ -1,9 +1,16 @@
 package com.github.lomasz.spring.boot.template.application.port;
 
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import java.util.Collection;
+import java.util.List;
 
 public interface GetTemplatePort {
 
     Template findById(Long id);
 
+    /**
+     * @return the existing templates among the given ids, in no particular order
+     */
+    List<Template> findAllByIds(Collection<Long> ids);
+
 }
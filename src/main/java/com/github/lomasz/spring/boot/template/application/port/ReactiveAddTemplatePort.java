@@ -0,0 +1,10 @@
+package com.github.lomasz.spring.boot.template.application.port;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAddTemplatePort {
+
+    Mono<Long> create(Template template);
+
+}
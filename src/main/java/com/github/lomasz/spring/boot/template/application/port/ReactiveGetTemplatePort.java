@@ -0,0 +1,13 @@
+package com.github.lomasz.spring.boot.template.application.port;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveGetTemplatePort {
+
+    /**
+     * @return the template or an error signal with {@link com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException}
+     */
+    Mono<Template> findById(Long id);
+
+}
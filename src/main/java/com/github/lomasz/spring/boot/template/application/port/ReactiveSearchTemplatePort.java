@@ -0,0 +1,15 @@
+package com.github.lomasz.spring.boot.template.application.port;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSearchTemplatePort {
+
+    Mono<SearchResult<Template>> search(TemplateFilter filter, int page, int size, SortDirection sortDirection, String sortProperty,
+                                        CountMode countMode);
+
+}
@@ -1,11 +1,23 @@
 package com.github.lomasz.spring.boot.template.application.port;
 
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.ScrollResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import java.util.List;
 
 public interface SearchTemplatePort {
 
-    SearchResult<Template> search(int page, int size, SortDirection sortDirection, String sortProperty);
+    SearchResult<Template> search(TemplateFilter filter, int page, int size, SortDirection sortDirection, String sortProperty,
+                                  CountMode countMode);
+
+    ScrollResult<Template> scroll(String cursor, int size, SortDirection sortDirection, String sortProperty);
+
+    /**
+     * @return at most {@code limit} templates with an id greater than {@code afterId}, ordered by id
+     */
+    List<Template> findAfterId(long afterId, int limit);
 
 }
@@ -0,0 +1,19 @@
+package com.github.lomasz.spring.boot.template.application.port;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.IdBlock;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import java.util.List;
+
+public interface WriteBehindTemplatePort {
+
+    /**
+     * Reserves ids that are never handed out by {@link AddTemplatePort}.
+     */
+    IdBlock reserveIds();
+
+    /**
+     * Stores templates that already have their ids, in a single transaction.
+     */
+    void insertAll(List<Template> templates);
+
+}
@@ -1,8 +1,10 @@
 package com.github.lomasz.spring.boot.template.application.usecase;
 
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateCreatedEvent;
 import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -10,10 +12,15 @@ import org.springframework.stereotype.Service;
 public class AddTemplateUseCase implements UseCase<AddTemplateUseCase.Input, AddTemplateUseCase.Output> {
 
     private final AddTemplatePort addTemplatePort;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Output execute(Input input) {
-        return new Output(addTemplatePort.create(input.template()));
+        Template template = input.template();
+        Long id = addTemplatePort.create(template);
+        eventPublisher.publishEvent(new TemplateCreatedEvent(
+                new Template(id, template.name(), template.acronym(), template.budget())));
+        return new Output(id);
     }
 
     public record Input(Template template) implements UseCase.Input {
@@ -0,0 +1,36 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateCreatedEvent;
+import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class AddTemplatesUseCase implements UseCase<AddTemplatesUseCase.Input, AddTemplatesUseCase.Output> {
+
+    private final AddTemplatePort addTemplatePort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Output execute(Input input) {
+        List<Template> templates = input.templates();
+        List<Long> ids = addTemplatePort.createAll(templates);
+        for (int i = 0; i < ids.size(); i++) {
+            Template template = templates.get(i);
+            eventPublisher.publishEvent(new TemplateCreatedEvent(
+                    new Template(ids.get(i), template.name(), template.acronym(), template.budget())));
+        }
+        return new Output(ids);
+    }
+
+    public record Input(List<Template> templates) implements UseCase.Input {
+    }
+
+    public record Output(List<Long> ids) implements UseCase.Output {
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Write-behind counterpart of {@link AddTemplateUseCase}: the template is committed shortly after the id is returned.
+ */
+@RequiredArgsConstructor
+@Service
+@ConditionalOnProperty(prefix = "app.ingestion.write-behind", name = "enabled", havingValue = "true")
+public class EnqueueTemplateUseCase implements UseCase<EnqueueTemplateUseCase.Input, EnqueueTemplateUseCase.Output> {
+
+    private final TemplateWriteBehindQueue templateWriteBehindQueue;
+
+    @Override
+    public Output execute(Input input) {
+        return new Output(templateWriteBehindQueue.enqueue(input.template()));
+    }
+
+    public record Input(Template template) implements UseCase.Input {
+    }
+
+    public record Output(Long id) implements UseCase.Output {
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.ExportTemplatePort;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class ExportTemplatesUseCase implements UseCase<ExportTemplatesUseCase.Input, ExportTemplatesUseCase.Output> {
+
+    private final ExportTemplatePort exportTemplatePort;
+
+    @Override
+    public Output execute(Input input) {
+        return new Output(exportTemplatePort.exportAll(input.consumer()));
+    }
+
+    public record Input(Consumer<Template> consumer) implements UseCase.Input {
+    }
+
+    public record Output(long count) implements UseCase.Output {
+    }
+
+}
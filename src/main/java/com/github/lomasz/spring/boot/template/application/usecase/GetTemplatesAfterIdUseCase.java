@@ -0,0 +1,29 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Templates created after the given one (ids are taken from an ascending sequence), e.g. to resume a change feed.
+ */
+@RequiredArgsConstructor
+@Service
+public class GetTemplatesAfterIdUseCase implements UseCase<GetTemplatesAfterIdUseCase.Input, GetTemplatesAfterIdUseCase.Output> {
+
+    private final SearchTemplatePort searchTemplatePort;
+
+    @Override
+    public Output execute(Input input) {
+        return new Output(searchTemplatePort.findAfterId(input.afterId(), input.limit()));
+    }
+
+    public record Input(long afterId, int limit) implements UseCase.Input {
+    }
+
+    public record Output(List<Template> templates) implements UseCase.Output {
+    }
+
+}
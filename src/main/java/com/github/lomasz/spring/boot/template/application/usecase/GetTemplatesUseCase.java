@@ -0,0 +1,48 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.LookupResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class GetTemplatesUseCase implements UseCase<GetTemplatesUseCase.Input, GetTemplatesUseCase.Output> {
+
+    private final GetTemplatePort getTemplatePort;
+
+    @Override
+    public Output execute(Input input) {
+        // duplicates are looked up and returned once, at the position of their first occurrence
+        Set<Long> ids = new LinkedHashSet<>(input.ids());
+        Map<Long, Template> found = getTemplatePort.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(Template::id, Function.identity()));
+
+        List<Template> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Template template = found.get(id);
+            if (template != null) {
+                items.add(template);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new Output(new LookupResult<>(items, missingIds));
+    }
+
+    public record Input(List<Long> ids) implements UseCase.Input {
+    }
+
+    public record Output(LookupResult<Template> lookupResult) implements UseCase.Output {
+    }
+
+}
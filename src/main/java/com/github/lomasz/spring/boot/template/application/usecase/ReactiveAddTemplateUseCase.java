@@ -0,0 +1,28 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveAddTemplatePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAddTemplateUseCase implements ReactiveUseCase<ReactiveAddTemplateUseCase.Input, ReactiveAddTemplateUseCase.Output> {
+
+    private final ReactiveAddTemplatePort addTemplatePort;
+
+    @Override
+    public Mono<Output> execute(Input input) {
+        return addTemplatePort.create(input.template()).map(Output::new);
+    }
+
+    public record Input(Template template) implements UseCase.Input {
+    }
+
+    public record Output(Long id) implements UseCase.Output {
+    }
+
+}
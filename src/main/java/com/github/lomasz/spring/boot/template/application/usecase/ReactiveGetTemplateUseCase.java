@@ -0,0 +1,28 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveGetTemplatePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGetTemplateUseCase implements ReactiveUseCase<ReactiveGetTemplateUseCase.Input, ReactiveGetTemplateUseCase.Output> {
+
+    private final ReactiveGetTemplatePort getTemplatePort;
+
+    @Override
+    public Mono<Output> execute(Input input) {
+        return getTemplatePort.findById(input.id()).map(Output::new);
+    }
+
+    public record Input(Long id) implements UseCase.Input {
+    }
+
+    public record Output(Template template) implements UseCase.Output {
+    }
+
+}
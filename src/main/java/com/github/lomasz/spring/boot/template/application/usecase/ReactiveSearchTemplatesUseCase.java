@@ -0,0 +1,39 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveSearchTemplatePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSearchTemplatesUseCase
+        implements ReactiveUseCase<ReactiveSearchTemplatesUseCase.Input, ReactiveSearchTemplatesUseCase.Output> {
+
+    private final ReactiveSearchTemplatePort searchTemplatePort;
+
+    @Override
+    public Mono<Output> execute(Input input) {
+        return searchTemplatePort.search(input.filter(), input.page(), input.size(), input.sortDirection(), input.sortProperty(),
+                        input.countMode())
+                .map(Output::new);
+    }
+
+    public record Input(int page, int size, SortDirection sortDirection, String sortProperty, TemplateFilter filter,
+                        CountMode countMode) implements UseCase.Input {
+
+        public Input(int page, int size, SortDirection sortDirection, String sortProperty) {
+            this(page, size, sortDirection, sortProperty, TemplateFilter.none(), CountMode.EXACT);
+        }
+    }
+
+    public record Output(SearchResult<Template> searchResult) implements UseCase.Output {
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link UseCase}, nothing happens until the result is subscribed to.
+ */
+@FunctionalInterface
+interface ReactiveUseCase<IN extends UseCase.Input, OUT extends UseCase.Output> {
+
+    Mono<OUT> execute(IN input);
+
+}
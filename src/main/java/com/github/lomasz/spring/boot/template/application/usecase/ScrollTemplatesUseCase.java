@@ -0,0 +1,35 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.BusinessException;
+import com.github.lomasz.spring.boot.template.application.domain.model.ScrollResult;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class ScrollTemplatesUseCase implements UseCase<ScrollTemplatesUseCase.Input, ScrollTemplatesUseCase.Output> {
+
+    /**
+     * Upper bound of a slice, a larger one would be read (and held) in a single query.
+     */
+    public static final int MAX_SIZE = 1_000;
+
+    private final SearchTemplatePort searchTemplatePort;
+
+    @Override
+    public Output execute(Input input) {
+        if (input.size() < 1 || input.size() > MAX_SIZE) {
+            throw new BusinessException("Size must be between 1 and %d".formatted(MAX_SIZE));
+        }
+        return new Output(searchTemplatePort.scroll(input.cursor(), input.size(), input.sortDirection(), input.sortProperty()));
+    }
+
+    public record Input(String cursor, int size, SortDirection sortDirection, String sortProperty) implements UseCase.Input {
+    }
+
+    public record Output(ScrollResult<Template> scrollResult) implements UseCase.Output {
+    }
+}
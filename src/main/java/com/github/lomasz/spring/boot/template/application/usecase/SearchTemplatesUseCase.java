@@ -1,8 +1,10 @@
 package com.github.lomasz.spring.boot.template.application.usecase;
 
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
 import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
 import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,10 +17,20 @@ public class SearchTemplatesUseCase implements UseCase<SearchTemplatesUseCase.In
 
     @Override
     public Output execute(Input input) {
-        return new Output(searchTemplatePort.search(input.page(), input.size(), input.sortDirection(), input.sortProperty));
+        return new Output(searchTemplatePort.search(input.filter(), input.page(), input.size(), input.sortDirection(), input.sortProperty(),
+                input.countMode()));
     }
 
-    public record Input(int page, int size, SortDirection sortDirection, String sortProperty) implements UseCase.Input {
+    public record Input(int page, int size, SortDirection sortDirection, String sortProperty, TemplateFilter filter,
+                        CountMode countMode) implements UseCase.Input {
+
+        public Input(int page, int size, SortDirection sortDirection, String sortProperty, TemplateFilter filter) {
+            this(page, size, sortDirection, sortProperty, filter, CountMode.EXACT);
+        }
+
+        public Input(int page, int size, SortDirection sortDirection, String sortProperty) {
+            this(page, size, sortDirection, sortProperty, TemplateFilter.none());
+        }
     }
 
     public record Output(SearchResult<Template> searchResult) implements UseCase.Output {
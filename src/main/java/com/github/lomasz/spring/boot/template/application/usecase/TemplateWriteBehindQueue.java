@@ -0,0 +1,235 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.CapacityExceededException;
+import com.github.lomasz.spring.boot.template.application.domain.model.IdBlock;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateCreatedEvent;
+import com.github.lomasz.spring.boot.template.application.port.WriteBehindTemplatePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded queue of accepted templates, committed in batches by a single background thread. Ids are assigned on
+ * acceptance from a block reserved in the database, so the caller gets the final id (and location) right away.
+ * On shutdown new templates are rejected and the queue is drained before the datasource goes away.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.ingestion.write-behind", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class TemplateWriteBehindQueue implements SmartLifecycle {
+
+    /**
+     * Stops after the web server (which stops accepting requests first) and before the datasource is closed.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final WriteBehindTemplatePort writeBehindTemplatePort;
+    private final WriteBehindProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<Template> queue;
+    private final Counter failedTemplates;
+
+    /**
+     * Enqueuing holds the read lock, closing the queue the write lock, so nothing is added after the final drain.
+     */
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private boolean accepting;
+
+    /**
+     * Guards the id block, a lock rather than {@code synchronized}: reserving a block queries the database and a
+     * virtual thread blocked inside a monitor would pin its carrier thread.
+     */
+    private final Lock idLock = new ReentrantLock();
+    private IdBlock idBlock;
+    private long nextId;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TemplateWriteBehindQueue(WriteBehindTemplatePort writeBehindTemplatePort, WriteBehindProperties properties,
+                                    ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.writeBehindTemplatePort = writeBehindTemplatePort;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        Gauge.builder("templates.write.behind.queue.size", queue, BlockingQueue::size)
+                .description("Accepted templates waiting to be committed")
+                .register(meterRegistry);
+        this.failedTemplates = Counter.builder("templates.write.behind.failed")
+                .description("Accepted templates that could not be committed and were dropped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return id of the accepted template
+     * @throws CapacityExceededException when the queue is full or shutting down
+     */
+    public Long enqueue(Template template) {
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) {
+                throw new CapacityExceededException("Template ingestion is not accepting new templates");
+            }
+            Template withId = new Template(nextId(), template.name(), template.acronym(), template.budget());
+            if (!queue.offer(withId)) {
+                throw new CapacityExceededException("Template ingestion queue is full");
+            }
+            return withId.id();
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+    }
+
+    private long nextId() {
+        idLock.lock();
+        try {
+            if (idBlock == null || nextId > idBlock.last()) {
+                idBlock = writeBehindTemplatePort.reserveIds();
+                nextId = idBlock.first();
+            }
+            return nextId++;
+        } finally {
+            idLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = true;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("template-write-behind").start(this::flushLoop);
+    }
+
+    @Override
+    public void stop() {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        running = false;
+        try {
+            if (!flusher.join(properties.getDrainTimeout())) {
+                // stops a retry backoff, the datasource is closed next
+                flusher.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusher.interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("Shutdown before {} accepted templates were committed", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void flushLoop() {
+        List<Template> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Template first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * A batch failing for good is retried row by row, so a single bad row (e.g. violating a constraint) is the only
+     * one dropped and the flusher moves on.
+     */
+    private void flush(List<Template> batch) throws InterruptedException {
+        List<Template> committed = batch;
+        try {
+            insert(batch);
+        } catch (TransientDataAccessException e) {
+            log.error("Committing {} templates failed {} times, dropping them", batch.size(), properties.getMaxAttempts(), e);
+            failedTemplates.increment(batch.size());
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Committing {} templates failed, committing them one by one", batch.size(), e);
+            committed = insertOneByOne(batch);
+        }
+        log.atDebug()
+                .setMessage("Templates committed")
+                .addKeyValue("count", committed.size())
+                .log();
+        // outside of the retry, a failing listener must not insert the batch twice
+        committed.forEach(template -> eventPublisher.publishEvent(new TemplateCreatedEvent(template)));
+    }
+
+    private List<Template> insertOneByOne(List<Template> batch) throws InterruptedException {
+        List<Template> committed = new ArrayList<>(batch.size());
+        for (Template template : batch) {
+            try {
+                insert(List.of(template));
+                committed.add(template);
+            } catch (RuntimeException e) {
+                log.error("Committing template with id={} failed, dropping it", template.id(), e);
+                failedTemplates.increment();
+            }
+        }
+        return committed;
+    }
+
+    /**
+     * Retries transient failures (lost connection, lock timeout, ...) up to {@code max-attempts} times.
+     */
+    private void insert(List<Template> templates) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writeBehindTemplatePort.insertAll(templates);
+                return;
+            } catch (TransientDataAccessException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    throw e;
+                }
+                log.warn("Committing {} templates failed, retrying in {}", templates.size(), properties.getRetryBackoff(), e);
+                Thread.sleep(properties.getRetryBackoff());
+            }
+        }
+    }
+}
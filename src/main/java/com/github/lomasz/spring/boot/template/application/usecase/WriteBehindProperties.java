@@ -0,0 +1,43 @@
+package com.github.lomasz.spring.boot.template.application.usecase;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.ingestion.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * Whether creates are acknowledged with 202 Accepted before they are committed.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of accepted, not yet committed templates, further creates are rejected with 429.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of templates committed in a single transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pause before a batch that failed transiently is retried.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Attempts to commit a batch failing transiently, the templates are dropped afterwards.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * How long the shutdown waits for the queue to be committed.
+     */
+    private Duration drainTimeout = Duration.ofSeconds(30);
+
+}
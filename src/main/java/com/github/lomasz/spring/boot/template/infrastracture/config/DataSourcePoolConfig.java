@@ -0,0 +1,41 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sizes the Hikari pool as {@code cores * core-multiplier + effective-spindle-count} (see "About Pool Sizing" in the
+ * HikariCP wiki) and keeps it fixed, idle connections are not closed and reopened under bursts.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnProperty(prefix = "app.datasource.pool", name = "derive-size", havingValue = "true")
+@EnableConfigurationProperties(DataSourcePoolProperties.class)
+class DataSourcePoolConfig {
+
+    @Bean
+    static BeanPostProcessor hikariPoolSizer(ObjectProvider<DataSourcePoolProperties> propertiesProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    DataSourcePoolProperties properties = propertiesProvider.getObject();
+                    int size = Runtime.getRuntime().availableProcessors() * properties.getCoreMultiplier()
+                            + properties.getEffectiveSpindleCount();
+                    log.info("Sizing connection pool '{}' to {} connections", beanName, size);
+                    dataSource.setMaximumPoolSize(size);
+                    dataSource.setMinimumIdle(size);
+                }
+                return bean;
+            }
+        };
+    }
+}
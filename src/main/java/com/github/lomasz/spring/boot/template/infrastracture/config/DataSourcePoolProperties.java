@@ -0,0 +1,28 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.pool")
+class DataSourcePoolProperties {
+
+    /**
+     * Whether to size the Hikari pool from the number of available processors instead of
+     * {@code spring.datasource.hikari.maximum-pool-size}.
+     */
+    private boolean deriveSize = false;
+
+    /**
+     * Connections per available processor.
+     */
+    private int coreMultiplier = 2;
+
+    /**
+     * Connections added on top for requests waiting on I/O of the database, 0 when the whole data set is cached.
+     */
+    private int effectiveSpindleCount = 1;
+
+}
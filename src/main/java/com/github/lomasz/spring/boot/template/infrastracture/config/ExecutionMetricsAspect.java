@@ -0,0 +1,149 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.BusinessException;
+import com.github.lomasz.spring.boot.template.application.domain.exception.TechnicalException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records {@code usecase.execution} / {@code port.execution} timers and {@code usecase.active} /
+ * {@code port.active} in-flight gauges. Histogram, percentiles and SLO buckets are configured through
+ * {@code management.metrics.distribution.*}. Only the methods declared by the port interfaces are timed; a port
+ * called by another one (e.g. the caching adapter delegating to the persistence adapter) is recorded under both
+ * {@code adapter} tags, which tells cache hits apart from database round trips.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+class ExecutionMetricsAspect {
+
+    private static final String USE_CASE = "usecase";
+    private static final String PORT = "port";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<InFlightKey, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.github.lomasz.spring.boot.template.application.usecase.UseCase+.execute(..))"
+            + " || execution(* com.github.lomasz.spring.boot.template.application.usecase.ReactiveUseCase+.execute(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(USE_CASE, Tags.of(USE_CASE, targetName(joinPoint)), joinPoint);
+    }
+
+    @Around("execution(public * com.github.lomasz.spring.boot.template.application.port.*.*(..))")
+    public Object timePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(PORT, Tags.of("adapter", targetName(joinPoint), "method", joinPoint.getSignature().getName()), joinPoint);
+    }
+
+    private Object time(String prefix, Tags tags, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (Mono.class.isAssignableFrom(((MethodSignature) joinPoint.getSignature()).getReturnType())) {
+            return timeMono(prefix, tags, joinPoint);
+        }
+        Execution execution = start(prefix, tags);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            execution.stop(failure);
+        }
+    }
+
+    /**
+     * Assembling a {@link Mono} takes no time, the execution is measured from subscription to termination.
+     */
+    private Mono<?> timeMono(String prefix, Tags tags, ProceedingJoinPoint joinPoint) {
+        return Mono.defer(() -> {
+            Execution execution = start(prefix, tags);
+            Mono<?> mono;
+            try {
+                mono = (Mono<?>) joinPoint.proceed();
+            } catch (Throwable e) {
+                execution.stop(e);
+                return Mono.error(e);
+            }
+            return mono
+                    .doOnSuccess(value -> execution.stop(null))
+                    .doOnError(execution::stop)
+                    .doOnCancel(execution::cancel);
+        });
+    }
+
+    private Execution start(String prefix, Tags tags) {
+        AtomicInteger active = inFlight.computeIfAbsent(new InFlightKey(prefix, tags),
+                key -> meterRegistry.gauge(key.prefix() + ".active", key.tags(), new AtomicInteger()));
+        active.incrementAndGet();
+        return new Execution(prefix, tags, active, Timer.start(meterRegistry));
+    }
+
+    private static String targetName(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+
+    private static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "success";
+        }
+        if (failure instanceof BusinessException) {
+            return "business_error";
+        }
+        if (failure instanceof TechnicalException) {
+            return "technical_error";
+        }
+        return "error";
+    }
+
+    private record InFlightKey(String prefix, Tags tags) {
+    }
+
+    private final class Execution {
+
+        private final String prefix;
+        private final Tags tags;
+        private final AtomicInteger active;
+        private final Timer.Sample sample;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        private Execution(String prefix, Tags tags, AtomicInteger active, Timer.Sample sample) {
+            this.prefix = prefix;
+            this.tags = tags;
+            this.active = active;
+            this.sample = sample;
+        }
+
+        void stop(Throwable failure) {
+            record(outcome(failure), failure == null ? "none" : failure.getClass().getSimpleName());
+        }
+
+        void cancel() {
+            record("cancelled", "none");
+        }
+
+        private void record(String outcome, String exception) {
+            // a Mono may be cancelled after it has terminated
+            if (!stopped.compareAndSet(false, true)) {
+                return;
+            }
+            active.decrementAndGet();
+            sample.stop(Timer.builder(prefix + ".execution")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
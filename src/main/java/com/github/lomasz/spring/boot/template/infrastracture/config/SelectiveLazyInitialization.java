@@ -0,0 +1,55 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import java.util.List;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * Marks the beans declared by classes from {@code app.startup.lazy-packages} as lazy. Unlike
+ * {@code spring.main.lazy-initialization} it leaves the hot path (controllers, repositories, Hibernate) eager, so the
+ * first request does not pay for it. Servlet and filter registrations must not be listed: nothing asks for them
+ * after startup, so a lazy one is never registered.
+ */
+class SelectiveLazyInitialization implements BeanFactoryPostProcessor {
+
+    static final String LAZY_PACKAGES_PROPERTY = "app.startup.lazy-packages";
+
+    private final List<String> lazyPackages;
+
+    SelectiveLazyInitialization(Environment environment) {
+        this.lazyPackages = Binder.get(environment)
+                .bind(LAZY_PACKAGES_PROPERTY, Bindable.listOf(String.class))
+                .orElse(List.of());
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (lazyPackages.isEmpty()) {
+            return;
+        }
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (isInLazyPackage(declaringClassName(beanFactory, definition))) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    /**
+     * The bean class itself or, for {@code @Bean} methods, the configuration class declaring it.
+     */
+    private static String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        if (definition.getFactoryBeanName() != null && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            return beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+
+    private boolean isInLazyPackage(String className) {
+        return className != null && lazyPackages.stream().anyMatch(className::startsWith);
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+class StartupConfig {
+
+    @Bean
+    static SelectiveLazyInitialization selectiveLazyInitialization(Environment environment) {
+        return new SelectiveLazyInitialization(environment);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.startup", name = "report-steps")
+    StartupReport startupReport(Environment environment) {
+        return new StartupReport(environment.getRequiredProperty("app.startup.report-steps", Integer.class));
+    }
+}
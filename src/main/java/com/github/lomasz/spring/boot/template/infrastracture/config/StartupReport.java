@@ -0,0 +1,43 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import java.util.Comparator;
+import java.util.StringJoiner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * Logs the slowest startup steps recorded by {@link BufferingApplicationStartup}, the full timeline is available at
+ * {@code /actuator/startup}.
+ */
+@Slf4j
+class StartupReport {
+
+    private final int slowestSteps;
+
+    StartupReport(int slowestSteps) {
+        this.slowestSteps = slowestSteps;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        log.info("Started in {} ms, {} slowest steps:", event.getTimeTaken().toMillis(), slowestSteps);
+        startup.getBufferedTimeline().getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(slowestSteps)
+                .forEach(step -> log.info("{} ms {} {}", step.getDuration().toMillis(),
+                        step.getStartupStep().getName(), tags(step.getStartupStep())));
+    }
+
+    private static String tags(StartupStep step) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        step.getTags().forEach(tag -> joiner.add(tag.getKey() + "=" + tag.getValue()));
+        return joiner.toString();
+    }
+}
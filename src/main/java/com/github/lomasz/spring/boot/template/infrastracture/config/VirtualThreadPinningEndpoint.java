@@ -0,0 +1,21 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+@RequiredArgsConstructor
+@Endpoint(id = "pinning")
+class VirtualThreadPinningEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    @ReadOperation
+    public PinningReport pinning() {
+        return new PinningReport(monitor.count(), monitor.recentEvents());
+    }
+
+    record PinningReport(long total, List<VirtualThreadPinningMonitor.PinnedEvent> recentEvents) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events, i.e. virtual threads blocking while pinned to their carrier
+ * (synchronized blocks, native frames), and keeps counters plus the most recent events for the actuator endpoint.
+ */
+@Slf4j
+class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int REPORTED_FRAMES = 5;
+
+    private final RecordingStream recordingStream = new RecordingStream();
+    private final Deque<PinnedEvent> recentEvents = new ArrayDeque<>();
+    private final int history;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+
+    VirtualThreadPinningMonitor(Duration threshold, int history, MeterRegistry meterRegistry) {
+        this.history = history;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual thread pinning events longer than the threshold")
+                .register(meterRegistry);
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("Duration of virtual thread pinning events")
+                .register(meterRegistry);
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    }
+
+    void start() {
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+
+    synchronized List<PinnedEvent> recentEvents() {
+        return List.copyOf(recentEvents);
+    }
+
+    long count() {
+        return (long) pinnedCounter.count();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        PinnedEvent pinned = new PinnedEvent(
+                event.getStartTime(),
+                event.getDuration(),
+                event.getThread() != null ? event.getThread().getJavaName() : null,
+                frames(event.getStackTrace()));
+        pinnedCounter.increment();
+        pinnedTimer.record(event.getDuration());
+        log.debug("Virtual thread pinned for {}: {}", pinned.duration(), pinned.stackTrace());
+        synchronized (this) {
+            if (recentEvents.size() == history) {
+                recentEvents.removeFirst();
+            }
+            recentEvents.addLast(pinned);
+        }
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .limit(REPORTED_FRAMES)
+                .map(VirtualThreadPinningMonitor::frame)
+                .toList();
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return "%s.%s:%d".formatted(frame.getMethod().getType().getName(), frame.getMethod().getName(), frame.getLineNumber());
+    }
+
+    record PinnedEvent(Instant startTime, Duration duration, String threadName, List<String> stackTrace) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Extras for {@code spring.threads.virtual.enabled=true}. Spring Boot itself switches Tomcat request handling and
+ * the application task executor to virtual threads, this adds the JDBC concurrency limit and pinning diagnostics.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(VirtualThreadsProperties.class)
+class VirtualThreadsConfig {
+
+    @Bean
+    static BeanPostProcessor jdbcConcurrencyLimiter(ObjectProvider<VirtualThreadsProperties> propertiesProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // wrappers (the limiter itself, the replica routing) delegate to pools that are limited on their own
+                if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                    VirtualThreadsProperties properties = propertiesProvider.getObject();
+                    log.info("Limiting JDBC concurrency of '{}' to {}", beanName, properties.getJdbcConcurrencyLimit());
+                    return new ConcurrencyLimitedDataSource(dataSource, properties.getJdbcConcurrencyLimit(), properties.getJdbcAcquireTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadsProperties properties, MeterRegistry meterRegistry) {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+                properties.getPinnedThreshold(), properties.getPinnedEventsHistory(), meterRegistry);
+        monitor.start();
+        return monitor;
+    }
+
+    @Bean
+    public VirtualThreadPinningEndpoint virtualThreadPinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        return new VirtualThreadPinningEndpoint(monitor);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.virtual-threads")
+class VirtualThreadsProperties {
+
+    /**
+     * Maximum number of JDBC connections handed out at the same time, should not exceed the connection pool size.
+     */
+    private int jdbcConcurrencyLimit = 10;
+
+    /**
+     * How long a thread waits for a JDBC permit before the connection request fails.
+     */
+    private Duration jdbcAcquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Minimal duration of a carrier thread pinning to be reported.
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * Number of the most recent pinning events kept for the actuator endpoint.
+     */
+    private int pinnedEventsHistory = 50;
+
+}
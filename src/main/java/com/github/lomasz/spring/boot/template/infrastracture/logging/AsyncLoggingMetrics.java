@@ -0,0 +1,46 @@
+package com.github.lomasz.spring.boot.template.infrastracture.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Iterator;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.stereotype.Component;
+
+@Component
+@ImportRuntimeHints(LoggingRuntimeHints.class)
+class AsyncLoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logback.async.events", this, ignored -> MeteredAsyncAppender.enqueued())
+                .description("Log events handed over to the async appender")
+                .tag("result", "enqueued")
+                .register(registry);
+        FunctionCounter.builder("logback.async.events", this, ignored -> MeteredAsyncAppender.dropped())
+                .description("Log events discarded because the async appender queue was full")
+                .tag("result", "dropped")
+                .register(registry);
+        FunctionCounter.builder("logback.sampled.events", this, ignored -> SamplingTurboFilter.sampledOut())
+                .description("Log events skipped by sampling")
+                .register(registry);
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof MeteredAsyncAppender appender) {
+                    Gauge.builder("logback.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                            .description("Log events waiting in the async appender queue")
+                            .tag("appender", appender.getName())
+                            .register(registry);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.github.lomasz.spring.boot.template.infrastracture.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts enqueued and dropped events. Logback creates appenders before the Spring
+ * context exists, hence the static counters read by the meter binder.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder ENQUEUED = new LongAdder();
+    private static final LongAdder DROPPED = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // same decision as AsyncAppenderBase makes, may be off by a few events under heavy contention
+        int remainingCapacity = getRemainingCapacity();
+        boolean dropped = (remainingCapacity == 0 && isNeverBlock())
+                || (remainingCapacity < getDiscardingThreshold() && isDiscardable(event));
+        super.append(event);
+        (dropped ? DROPPED : ENQUEUED).increment();
+    }
+
+    public static long enqueued() {
+        return ENQUEUED.sum();
+    }
+
+    public static long dropped() {
+        return DROPPED.sum();
+    }
+}
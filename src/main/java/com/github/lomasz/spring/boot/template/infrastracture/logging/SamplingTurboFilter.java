@@ -0,0 +1,63 @@
+package com.github.lomasz.spring.boot.template.infrastracture.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Marker;
+
+/**
+ * Lets through only a fraction of the events of the configured loggers, e.g.
+ * {@code <rates>com.example.persistence=0.1,com.example.rest=0.5</rates>}. The longest matching logger name wins,
+ * events at {@code WARN} and above are never sampled out.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+
+    private List<SamplingRate> rates = List.of();
+
+    public void setRates(String rates) {
+        List<SamplingRate> parsed = new ArrayList<>();
+        for (String entry : rates.split(",")) {
+            String[] loggerAndRate = entry.trim().split("=");
+            if (loggerAndRate.length == 2) {
+                parsed.add(new SamplingRate(loggerAndRate[0].trim(), Double.parseDouble(loggerAndRate[1].trim())));
+            } else if (!entry.isBlank()) {
+                addWarn("Ignoring malformed sampling rate: " + entry);
+            }
+        }
+        parsed.sort(Comparator.comparingInt((SamplingRate rate) -> rate.loggerName().length()).reversed());
+        this.rates = List.copyOf(parsed);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, sample only the actual logging calls
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        for (SamplingRate rate : rates) {
+            if (logger.getName().startsWith(rate.loggerName())) {
+                if (ThreadLocalRandom.current().nextDouble() < rate.rate()) {
+                    return FilterReply.NEUTRAL;
+                }
+                SAMPLED_OUT.increment();
+                return FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    public static long sampledOut() {
+        return SAMPLED_OUT.sum();
+    }
+
+    private record SamplingRate(String loggerName, double rate) {
+    }
+}
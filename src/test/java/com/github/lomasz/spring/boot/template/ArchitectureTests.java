@@ -20,7 +20,9 @@ class ArchitectureTests {
             .domainServices("..application.port..")
             .applicationServices("..application.usecase..")
             .adapter("out.persistence", "..adapter.out.persistence..")
-            .adapter("in.rest", "..adapter.in.rest..");
+            .adapter("out.r2dbc", "..adapter.out.r2dbc..")
+            .adapter("in.rest", "..adapter.in.rest..")
+            .adapter("in.reactive", "..adapter.in.reactive..");
 
     @ArchTest
     static ArchRule noGenericExceptions = GeneralCodingRules.NO_CLASSES_SHOULD_THROW_GENERIC_EXCEPTIONS;
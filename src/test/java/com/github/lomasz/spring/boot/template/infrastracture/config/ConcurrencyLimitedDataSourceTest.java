@@ -0,0 +1,92 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMillis(50);
+
+    private DataSource target;
+
+    private ConcurrencyLimitedDataSource sut;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        sut = new ConcurrencyLimitedDataSource(target, 1, ACQUIRE_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("should: throw SQLTransientConnectionException, when: no permit within acquire timeout")
+    void shouldTimeOutWhenLimitReached() throws SQLException {
+        // given
+        sut.getConnection();
+
+        // when
+        long start = System.nanoTime();
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class, sut::getConnection);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(ACQUIRE_TIMEOUT);
+        assertThat(exception.getMessage()).contains("concurrency limit");
+    }
+
+    @Test
+    @DisplayName("should: release permit once, when: connection closed twice")
+    void shouldReleasePermitOnceWhenClosedTwice() throws SQLException {
+        // given
+        Connection connection = sut.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(sut.getConnection()).isNotNull();
+        assertThrows(SQLTransientConnectionException.class, sut::getConnection);
+    }
+
+    @Test
+    @DisplayName("should: close target connection, when: connection closed")
+    void shouldCloseTargetConnection() throws SQLException {
+        // given
+        Connection targetConnection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(targetConnection);
+        Connection connection = sut.getConnection();
+
+        // when
+        connection.close();
+
+        // then
+        verify(targetConnection).close();
+    }
+
+    @Test
+    @DisplayName("should: release permit, when: target data source throws")
+    void shouldReleasePermitWhenTargetThrows() throws SQLException {
+        // given
+        when(target.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+        assertThrows(SQLException.class, sut::getConnection);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+        // when
+        Connection connection = sut.getConnection();
+
+        // then
+        assertThat(connection).isNotNull();
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveGetTemplatePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ExecutionMetricsAspectTest {
+
+    private static final Template TEMPLATE = new Template(1L, "John Doe", "JD", Money.of(1000));
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("should: tag outcome and exception, when: port returns or throws")
+    void shouldTagOutcome() {
+        // given
+        GetTemplatePort sut = proxy(new StubGetTemplatePort(id -> {
+            if (id == 0) {
+                throw new NotFoundException("Not found");
+            }
+            return TEMPLATE;
+        }));
+
+        // when
+        sut.findById(1L);
+        assertThrows(NotFoundException.class, () -> sut.findById(0L));
+
+        // then
+        assertThat(timer("findById", "success", "none").count()).isEqualTo(1);
+        assertThat(timer("findById", "business_error", "NotFoundException").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should: count execution as in flight, when: port method is running")
+    void shouldTrackInFlightExecutions() {
+        // given
+        double[] activeDuringCall = new double[1];
+        GetTemplatePort sut = proxy(new StubGetTemplatePort(id -> {
+            activeDuringCall[0] = active();
+            return TEMPLATE;
+        }));
+
+        // when
+        sut.findById(1L);
+
+        // then
+        assertThat(activeDuringCall[0]).isEqualTo(1);
+        assertThat(active()).isZero();
+    }
+
+    @Test
+    @DisplayName("should: time Mono from subscription to termination, when: port returns Mono")
+    void shouldTimeMonoUntilTermination() {
+        // given
+        ReactiveGetTemplatePort sut = proxy(new StubReactiveGetTemplatePort(Mono.delay(Duration.ofMillis(50)).thenReturn(TEMPLATE)));
+
+        // when
+        Mono<Template> result = sut.findById(1L);
+
+        // then
+        assertThat(meterRegistry.find("port.execution").timer()).isNull();
+        StepVerifier.create(result).expectNext(TEMPLATE).verifyComplete();
+        Timer timer = timer("findById", "success", "none");
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("should: tag outcome cancelled, when: subscriber cancels Mono")
+    void shouldTagCancelledMono() {
+        // given
+        ReactiveGetTemplatePort sut = proxy(new StubReactiveGetTemplatePort(Mono.never()));
+        Disposable subscription = sut.findById(1L).subscribe();
+
+        // when
+        subscription.dispose();
+
+        // then
+        assertThat(timer("findById", "cancelled", "none").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("port.execution").tag("outcome", "success").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("should: record each port under its adapter, when: port delegates to another port")
+    void shouldRecordNestedPortUnderOwnAdapter() {
+        // given
+        GetTemplatePort delegate = proxy(new StubGetTemplatePort(id -> TEMPLATE));
+        GetTemplatePort sut = proxy(new DelegatingGetTemplatePort(delegate));
+
+        // when
+        sut.findById(1L);
+
+        // then
+        assertThat(meterRegistry.get("port.execution").tag("adapter", "DelegatingGetTemplatePort").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("port.execution").tag("adapter", "StubGetTemplatePort").timer().count()).isEqualTo(1);
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new ExecutionMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+
+    private Timer timer(String method, String outcome, String exception) {
+        return meterRegistry.get("port.execution")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+    }
+
+    private double active() {
+        return meterRegistry.get("port.active").tag("method", "findById").gauge().value();
+    }
+
+    private record StubGetTemplatePort(LongFunction<Template> findById) implements GetTemplatePort {
+
+        @Override
+        public Template findById(Long id) {
+            return findById.apply(id);
+        }
+
+        @Override
+        public List<Template> findAllByIds(Collection<Long> ids) {
+            return List.of();
+        }
+    }
+
+    private record DelegatingGetTemplatePort(GetTemplatePort delegate) implements GetTemplatePort {
+
+        @Override
+        public Template findById(Long id) {
+            return delegate.findById(id);
+        }
+
+        @Override
+        public List<Template> findAllByIds(Collection<Long> ids) {
+            return delegate.findAllByIds(ids);
+        }
+    }
+
+    private record StubReactiveGetTemplatePort(Mono<Template> template) implements ReactiveGetTemplatePort {
+
+        @Override
+        public Mono<Template> findById(Long id) {
+            return template;
+        }
+    }
+}
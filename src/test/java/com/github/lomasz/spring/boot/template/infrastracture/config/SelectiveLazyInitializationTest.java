@@ -0,0 +1,39 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class SelectiveLazyInitializationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(StartupConfig.class)
+            .withBean("lazyBean", ConcurrentHashMap.class, ConcurrentHashMap::new)
+            .withBean("eagerBean", ArrayList.class, ArrayList::new);
+
+    @Test
+    @DisplayName("should: mark only beans of listed packages lazy, when: lazy packages configured")
+    void shouldMarkBeansOfLazyPackagesLazy() {
+        contextRunner
+                .withPropertyValues(SelectiveLazyInitialization.LAZY_PACKAGES_PROPERTY + "=java.util.concurrent")
+                .run(context -> {
+                    assertThat(context.getBeanFactory().getBeanDefinition("lazyBean").isLazyInit()).isTrue();
+                    assertThat(context.getBeanFactory().containsSingleton("lazyBean")).isFalse();
+                    assertThat(context.getBeanFactory().getBeanDefinition("eagerBean").isLazyInit()).isFalse();
+                    assertThat(context.getBeanFactory().containsSingleton("eagerBean")).isTrue();
+                });
+    }
+
+    @Test
+    @DisplayName("should: leave all beans eager, when: no lazy packages configured")
+    void shouldLeaveBeansEagerWhenNoLazyPackages() {
+        contextRunner.run(context -> {
+            assertThat(context.getBeanFactory().getBeanDefinition("lazyBean").isLazyInit()).isFalse();
+            assertThat(context.getBeanFactory().containsSingleton("lazyBean")).isTrue();
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.lomasz.spring.boot.template.infrastracture.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningEndpointTest {
+
+    @Test
+    @DisplayName("should: report total and recent events of the monitor, when: read")
+    void shouldReportMonitorState() {
+        // given
+        VirtualThreadPinningMonitor.PinnedEvent event = new VirtualThreadPinningMonitor.PinnedEvent(
+                Instant.parse("2024-01-01T00:00:00Z"), Duration.ofMillis(30), "virtual-1", List.of("Foo.bar:42"));
+        VirtualThreadPinningMonitor monitor = mock(VirtualThreadPinningMonitor.class);
+        when(monitor.count()).thenReturn(3L);
+        when(monitor.recentEvents()).thenReturn(List.of(event));
+        VirtualThreadPinningEndpoint sut = new VirtualThreadPinningEndpoint(monitor);
+
+        // when
+        VirtualThreadPinningEndpoint.PinningReport result = sut.pinning();
+
+        // then
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.recentEvents()).containsExactly(event);
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.lomasz.spring.boot.template.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReactiveTemplateControllerTest {
+
+    private static final String CREATE_PATH = "/api/templates";
+    private static final String GET_BY_ID_PATH = "/api/templates/{id}";
+    private static final String SEARCH_PATH = "/api/templates";
+
+    private static final String LOCATION_HEADER = "Location";
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("operation: add, should: return HttpStatus = CREATED and path in Location header, when: add correctly")
+    void add() {
+        // given
+        Map<String, Object> johnDoe = Map.of("name", "John Doe", "acronym", "JD", "budget", new BigDecimal("1820050.00"));
+
+        // when
+        EntityExchangeResult<byte[]> result = webTestClient.post()
+                .uri(CREATE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(johnDoe)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists(LOCATION_HEADER)
+                .expectBody()
+                .returnResult();
+
+        // then
+        String location = result.getResponseHeaders().getFirst(LOCATION_HEADER);
+        assertThat(location).isNotNull();
+        Long id = Long.valueOf(location.substring(location.lastIndexOf("/") + 1));
+        assertThat(location).contains(GET_BY_ID_PATH.replace("{id}", id.toString()));
+
+        TemplateEntity entity = templateRepository.findById(id).orElseThrow();
+        assertThat(entity.getName()).isEqualTo("John Doe");
+        assertThat(entity.getAcronym()).isEqualTo("JD");
+        assertThat(entity.getBudget()).isEqualTo(Money.of(1820050));
+    }
+
+    @Test
+    @DisplayName("operation: add, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: validation error")
+    void addWithValidationErrorShouldReturnHttpStatusBadRequest() {
+        // given
+        Map<String, Object> johnDoe = Map.of("name", "John Doe", "budget", BigDecimal.TEN);
+
+        // when
+        webTestClient.post()
+                .uri(CREATE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(johnDoe)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(HttpStatus.BAD_REQUEST.value())
+                .jsonPath("$.errors").value(contains("acronym: must not be null"));
+    }
+
+    @Test
+    @DisplayName("operation: getById, should: return HttpStatus = OK and template, when: exists")
+    void getById() {
+        // given
+        TemplateEntity saved = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(GET_BY_ID_PATH, saved.getId())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(saved.getId())
+                .jsonPath("$.name").isEqualTo("John Doe")
+                .jsonPath("$.acronym").isEqualTo("JD")
+                .jsonPath("$.budget").isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("operation: getById, should: return HttpStatus = NOT_FOUND and ErrorResponse, when: does not exist")
+    void getByIdWhenNotExistsShouldReturnHttpStatusNotFound() {
+        // given
+
+        // when
+        webTestClient.get()
+                .uri(GET_BY_ID_PATH, 1)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Not Found")
+                .jsonPath("$.detail").isEqualTo("Template with id=1 not found")
+                .jsonPath("$.timestamp").exists();
+    }
+
+    @Test
+    @DisplayName("operation: search, should: return HttpStatus = OK and matching items, when: filters given")
+    void searchWithFiltersShouldReturnMatchingItems() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(3000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Juanito Perez").acronym("JP").budget(Money.of(2000000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(SEARCH_PATH)
+                        .queryParam("namePrefix", "J")
+                        .queryParam("budgetMin", "2000000")
+                        .queryParam("sort", "budget")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalCount").isEqualTo(2)
+                .jsonPath("$.countMode").isEqualTo("EXACT")
+                .jsonPath("$.items[*].name").value(contains("Juanito Perez", "Jan Kowalski"));
+    }
+
+}
@@ -4,27 +4,38 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
 import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
 import com.github.lomasz.spring.boot.template.application.domain.model.SearchResult;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.WriteBehindTemplatePort;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.EntityExchangeResult;
 import org.springframework.test.web.reactive.server.FluxExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureWebTestClient
@@ -32,11 +43,17 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 class TemplateControllerTest {
 
     private static final String CREATE_PATH = "/api/templates";
+    private static final String CREATE_BATCH_PATH = "/api/templates/batch";
     private static final String GET_BY_ID_PATH = "/api/templates/{id}";
     private static final String SEARCH_PATH = "/api/templates";
+    private static final String SCROLL_PATH = "/api/templates/scroll";
+    private static final String EXPORT_PATH = "/api/templates/export";
+    private static final String LOOKUP_PATH = "/api/templates/lookup";
+    private static final String CHANGES_PATH = "/api/templates/changes";
 
     private static final String X_REQUEST_ID_HEADER = "X-Request-ID";
     private static final String LOCATION_HEADER = "Location";
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
 
     @Autowired
     private TemplateRepository templateRepository;
@@ -44,11 +61,17 @@ class TemplateControllerTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private WriteBehindTemplatePort writeBehindTemplatePort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     @DisplayName("operation: add, should: return HttpStatus = CREATED and path in Location header, when: add correctly")
     void add() {
         // given
-        Template johnDoe = new Template(null, "John Doe", "JD", BigDecimal.valueOf(182005000));
+        Template johnDoe = new Template(null, "John Doe", "JD", Money.of(182005000));
 
         // when
         EntityExchangeResult<byte[]> result = webTestClient.post()
@@ -81,14 +104,14 @@ class TemplateControllerTest {
         assertThat(entity.get().getId()).isEqualTo(id);
         assertThat(entity.get().getName()).isEqualTo("John Doe");
         assertThat(entity.get().getAcronym()).isEqualTo("JD");
-        assertThat(entity.get().getBudget()).isEqualTo(BigDecimal.valueOf(182005000));
+        assertThat(entity.get().getBudget()).isEqualTo(Money.of(182005000));
     }
 
     @Test
     @DisplayName("operation: add, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: acronym is null")
     void addWhenTemplateDtoWithMissingValueShouldReturnHttpStatusBadRequest() {
         // given
-        Template johnDoe = new Template(null, "John Doe", null, BigDecimal.valueOf(182005000));
+        Template johnDoe = new Template(null, "John Doe", null, Money.of(182005000));
 
         // when
         webTestClient.post()
@@ -113,7 +136,7 @@ class TemplateControllerTest {
     @DisplayName("operation: add, should: return HttpStatus = BAD_REQUEST and ErrorResponse with many errors, when: many validation errors")
     void addWhenTemplateDtoWithManyValidationErrorsShouldReturnHttpStatusBadRequest() {
         // given
-        Template johnDoe = new Template(null, null, "", BigDecimal.valueOf(-182005000));
+        Template johnDoe = new Template(null, null, "", Money.of(-182005000));
 
         // when
         webTestClient.post()
@@ -142,7 +165,7 @@ class TemplateControllerTest {
     @DisplayName("operation: add, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: budget is negative value")
     void addWhenTemplateDtoWithNegativeBudgetValueShouldReturnHttpStatusBadRequest() {
         // given
-        Template johnDoe = new Template(null, "John Doe", "JD", BigDecimal.valueOf(-182005000));
+        Template johnDoe = new Template(null, "John Doe", "JD", Money.of(-182005000));
 
         // when
         webTestClient.post()
@@ -167,7 +190,7 @@ class TemplateControllerTest {
     @DisplayName("operation: add, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: too long acronym")
     void addWhenTemplateDtoWithTooLongAcronymValueShouldReturnHttpStatusBadRequest() {
         // given
-        Template johnDoe = new Template(null, "John Doe", "JOHN DOE", BigDecimal.valueOf(182005000));
+        Template johnDoe = new Template(null, "John Doe", "JOHN DOE", Money.of(182005000));
 
         // when
         webTestClient.post()
@@ -188,6 +211,49 @@ class TemplateControllerTest {
                 .jsonPath("$.instance").isEqualTo(CREATE_PATH);
     }
 
+    @Test
+    @DisplayName("operation: addAll, should: return HttpStatus = CREATED and ids, when: add correctly")
+    void addAll() {
+        // given
+        Map<String, List<Template>> request = Map.of("templates", List.of(
+                new Template(null, "John Doe", "JD", Money.of(182005000)),
+                new Template(null, "Jan Kowalski", "JK", Money.of(3000000))));
+
+        // when
+        webTestClient.post()
+                .uri(CREATE_BATCH_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists(X_REQUEST_ID_HEADER)
+                .expectBody()
+                .jsonPath("$.ids").value(hasSize(2));
+
+        assertThat(templateRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("operation: addAll, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: item is invalid")
+    void addAllWhenItemIsInvalidShouldReturnHttpStatusBadRequest() {
+        // given
+        Map<String, List<Template>> request = Map.of("templates", List.of(
+                new Template(null, "John Doe", null, Money.of(182005000))));
+
+        // when
+        webTestClient.post()
+                .uri(CREATE_BATCH_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Business Exception")
+                .jsonPath("$.errors").value(contains("templates[0].acronym: must not be null"));
+
+        assertThat(templateRepository.count()).isZero();
+    }
+
     @Test
     @DisplayName("operation: getById, should: return HttpStatus = OK and Template, when: exists")
     void getByIdWhenExistsShouldReturnTemplateDtoAndHttpStatusOk() {
@@ -195,7 +261,7 @@ class TemplateControllerTest {
         TemplateEntity johnDoe = TemplateEntity.builder()
                 .name("John Doe")
                 .acronym("JD")
-                .budget(BigDecimal.valueOf(182005000))
+                .budget(Money.of(182005000))
                 .build();
 
         TemplateEntity entity = templateRepository.save(johnDoe);
@@ -214,6 +280,229 @@ class TemplateControllerTest {
                 .jsonPath("$.budget").isEqualTo(BigDecimal.valueOf(182005000).toString());
     }
 
+    @Test
+    @DisplayName("operation: getById, should: return strong ETag and Cache-Control, when: exists")
+    void getByIdWhenExistsShouldReturnStrongETag() {
+        // given
+        TemplateEntity entity = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(GET_BY_ID_PATH, entity.getId())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"%d-0\"".formatted(entity.getId()))
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache, public");
+    }
+
+    @Test
+    @DisplayName("operation: getById, should: return HttpStatus = NOT_MODIFIED without body, when: ETag matches If-None-Match")
+    void getByIdWhenETagMatchesShouldReturnHttpStatusNotModified() {
+        // given
+        TemplateEntity entity = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        String eTag = webTestClient.get()
+                .uri(GET_BY_ID_PATH, entity.getId())
+                .exchange()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        // when
+        webTestClient.get()
+                .uri(GET_BY_ID_PATH, entity.getId())
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                // exactly one value
+                .expectHeader().values(HttpHeaders.ETAG, values -> assertThat(values).containsExactly(eTag))
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("operation: search, should: return HttpStatus = OK, when: match added after the page without count")
+    void searchWithoutCountWhenLaterItemAddedShouldReturnHttpStatusOk() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        String eTag = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(SEARCH_PATH).queryParam("size", 1).queryParam("count", "NONE").build())
+                .exchange()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        templateRepository.save(TemplateEntity.builder().name("Zed Smith").acronym("ZS").budget(Money.of(2000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(SEARCH_PATH).queryParam("size", 1).queryParam("count", "NONE").build())
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch(eTag)
+                .exchange()
+                // then
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.hasNext").isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("operation: search, should: return HttpStatus = NOT_MODIFIED, when: weak ETag matches If-None-Match")
+    void searchWhenETagMatchesShouldReturnHttpStatusNotModified() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        String eTag = webTestClient.get()
+                .uri(SEARCH_PATH)
+                .exchange()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        // when
+        webTestClient.get()
+                .uri(SEARCH_PATH)
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // then
+        assertThat(eTag).startsWith("W/");
+    }
+
+    @Test
+    @DisplayName("operation: search, should: return HttpStatus = OK, when: page changed since ETag was issued")
+    void searchWhenPageChangedShouldReturnHttpStatusOk() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        String eTag = webTestClient.get()
+                .uri(SEARCH_PATH)
+                .exchange()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(2000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(SEARCH_PATH)
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalCount").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("operation: getById, should: serialize the template once, when: read repeatedly")
+    void getByIdWhenReadRepeatedlyShouldServePreSerializedJson() {
+        // given
+        TemplateEntity entity = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        webTestClient.get()
+                .uri(GET_BY_ID_PATH, entity.getId())
+                .exchange()
+                .expectStatus().isOk();
+        double hitsBefore = meterRegistry.get("cache.gets").tag("cache", "templateJson").tag("result", "hit").functionCounter().count();
+
+        // when
+        webTestClient.get()
+                .uri(GET_BY_ID_PATH, entity.getId())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("John Doe")
+                .jsonPath("$.budget").isEqualTo(1000);
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "templateJson").tag("result", "hit").functionCounter().count())
+                .isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("operation: add + getById, should: keep fractional budget, when: budget has decimal places")
+    void addAndGetByIdShouldKeepFractionalBudget() {
+        // given
+        String request = """
+                {"name": "John Doe", "acronym": "JD", "budget": 1000.05}
+                """;
+
+        String location = webTestClient.post()
+                .uri(CREATE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(Void.class)
+                .getResponseHeaders()
+                .getFirst(LOCATION_HEADER);
+
+        // when
+        webTestClient.get()
+                .uri(location)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.budget").isEqualTo(1000.05);
+    }
+
+    @Test
+    @DisplayName("operation: add, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: budget has more than 2 decimal places")
+    void addWhenBudgetHasTooManyDecimalPlacesShouldReturnHttpStatusBadRequest() {
+        // given
+        String request = """
+                {"name": "John Doe", "acronym": "JD", "budget": 1000.001}
+                """;
+
+        // when
+        webTestClient.post()
+                .uri(CREATE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.length()").isEqualTo(1)
+                .jsonPath("$.errors[0]").value(startsWith("budget: numeric value out of bounds"));
+    }
+
+    @Test
+    @DisplayName("operation: lookup, should: return HttpStatus = OK, items in requested order and missing ids, when: some exist")
+    void lookupShouldReturnItemsInRequestedOrderAndMissingIds() {
+        // given
+        TemplateEntity johnDoe = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        TemplateEntity janKowalski = templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(2000)).build());
+
+        // when
+        webTestClient.post()
+                .uri(LOOKUP_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", List.of(janKowalski.getId(), 99L, johnDoe.getId())))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[*].name").value(contains("Jan Kowalski", "John Doe"))
+                .jsonPath("$.missingIds[0]").isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("operation: lookup, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: ids are empty")
+    void lookupWithEmptyIdsShouldReturnHttpStatusBadRequest() {
+        // given
+
+        // when
+        webTestClient.post()
+                .uri(LOOKUP_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", List.of()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors[0]").value(startsWith("ids: "));
+    }
+
     @Test
     @DisplayName("operation: getById, should: return HttpStatus = NOT_FOUND and ErrorResponse, when: does not exist")
     void getByIdWhenDoesNotExistShouldReturnHttpStatusNotFound() {
@@ -242,19 +531,19 @@ class TemplateControllerTest {
         TemplateEntity johnDoe = TemplateEntity.builder()
                 .name("John Doe")
                 .acronym("JD")
-                .budget(BigDecimal.valueOf(1000000))
+                .budget(Money.of(1000000))
                 .build();
 
         TemplateEntity janKowalski = TemplateEntity.builder()
                 .name("Jan Kowalski")
                 .acronym("JK")
-                .budget(BigDecimal.valueOf(3000000))
+                .budget(Money.of(3000000))
                 .build();
 
         TemplateEntity juanitoPerez = TemplateEntity.builder()
                 .name("Juanito Perez")
                 .acronym("JP")
-                .budget(BigDecimal.valueOf(2000000))
+                .budget(Money.of(2000000))
                 .build();
 
         templateRepository.save(johnDoe);
@@ -283,25 +572,25 @@ class TemplateControllerTest {
         TemplateEntity johnDoe = TemplateEntity.builder()
                 .name("John Doe")
                 .acronym("JD")
-                .budget(BigDecimal.valueOf(1000000))
+                .budget(Money.of(1000000))
                 .build();
 
         TemplateEntity janKowalski = TemplateEntity.builder()
                 .name("Jan Kowalski")
                 .acronym("JK")
-                .budget(BigDecimal.valueOf(3000000))
+                .budget(Money.of(3000000))
                 .build();
 
         TemplateEntity juanitoPerez = TemplateEntity.builder()
                 .name("Juanito Perez")
                 .acronym("JP")
-                .budget(BigDecimal.valueOf(2000000))
+                .budget(Money.of(2000000))
                 .build();
 
         TemplateEntity pierreEtPaul = TemplateEntity.builder()
                 .name("Pierre et Paul")
                 .acronym("PP")
-                .budget(BigDecimal.valueOf(4000000))
+                .budget(Money.of(4000000))
                 .build();
 
         templateRepository.save(johnDoe);
@@ -337,6 +626,74 @@ class TemplateControllerTest {
                         Comparator.comparing(Template::budget).reversed());
     }
 
+    @Test
+    @DisplayName("operation: search, should: return HttpStatus = OK and matching items, when: filters given")
+    void searchWithFiltersShouldReturnMatchingItems() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(3000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Juanito Perez").acronym("JP").budget(Money.of(2000000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(SEARCH_PATH)
+                        .queryParam("namePrefix", "J")
+                        .queryParam("acronym", "JK")
+                        .queryParam("budgetMin", "2000000")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalCount").isEqualTo(1)
+                .jsonPath("$.items").value(hasSize(1))
+                .jsonPath("$.items[0].name").isEqualTo("Jan Kowalski");
+    }
+
+    @Test
+    @DisplayName("operation: search, should: return HttpStatus = OK without total count, when: count = NONE")
+    void searchWithoutCountShouldReturnHasNextOnly() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(3000000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(SEARCH_PATH)
+                        .queryParam("size", 1)
+                        .queryParam("count", "NONE")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items").value(hasSize(1))
+                .jsonPath("$.hasNext").isEqualTo(true)
+                .jsonPath("$.countMode").isEqualTo("NONE")
+                .jsonPath("$.totalCount").doesNotExist()
+                .jsonPath("$.pages").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("operation: search, should: return gzip compressed body, when: client accepts gzip and body is large")
+    void searchWhenClientAcceptsGzipShouldReturnCompressedBody() {
+        // given
+        templateRepository.saveAll(IntStream.range(0, 30)
+                .mapToObj(i -> TemplateEntity.builder().name("John Doe " + i).acronym("JD").budget(Money.of(i)).build())
+                .toList());
+
+        // when
+        webTestClient.get()
+                .uri(SEARCH_PATH + "?size=30")
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
     @Test
     @DisplayName("operation: search, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: wrong sort field value")
     void searchWithWrongSortValueShouldReturnHttpStatusBadRequest() {
@@ -361,6 +718,161 @@ class TemplateControllerTest {
                 .jsonPath("$.timestamp").exists();
     }
 
+    @Test
+    @DisplayName("operation: scroll, should: return HttpStatus = OK, slice and next cursor, when: more items exist")
+    void scrollShouldReturnSliceWithNextCursor() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(3000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Juanito Perez").acronym("JP").budget(Money.of(2000000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(SCROLL_PATH)
+                        .queryParam("size", "2")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(X_REQUEST_ID_HEADER)
+                .expectBody()
+                .jsonPath("$.limit").isEqualTo(2)
+                .jsonPath("$.nextCursor").isNotEmpty()
+                .jsonPath("$.totalCount").doesNotExist()
+                .jsonPath("$.items").value(hasSize(2))
+                .jsonPath("$.items[0].name").isEqualTo("Jan Kowalski")
+                .jsonPath("$.items[1].name").isEqualTo("John Doe");
+    }
+
+    @Test
+    @DisplayName("operation: scroll, should: return HttpStatus = BAD_REQUEST and ErrorResponse, when: malformed cursor")
+    void scrollWithMalformedCursorShouldReturnHttpStatusBadRequest() {
+        // given
+
+        // when
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(SCROLL_PATH)
+                        .queryParam("cursor", "not-a-cursor")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().exists(X_REQUEST_ID_HEADER)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Business Exception")
+                .jsonPath("$.detail").isEqualTo("Invalid cursor: not-a-cursor");
+    }
+
+    @Test
+    @DisplayName("operation: export, should: return HttpStatus = OK and one JSON line per item, when: items exist")
+    void exportShouldStreamNewlineDelimitedJson() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(3000000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Juanito Perez").acronym("JP").budget(Money.of(2000000)).build());
+
+        // when
+        webTestClient.get()
+                .uri(EXPORT_PATH)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> assertThat(body.lines())
+                        .hasSize(3)
+                        .first()
+                        .asString()
+                        .contains("\"name\":\"John Doe\""));
+    }
+
+    @Test
+    @DisplayName("operation: changes, should: replay items created after Last-Event-ID, when: client resumes")
+    void changesWithLastEventIdShouldReplayLaterItems() {
+        // given
+        TemplateEntity johnDoe = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        TemplateEntity janKowalski = templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(2000)).build());
+
+        // when
+        Flux<ServerSentEvent<String>> events = changes(johnDoe.getId());
+
+        // then
+        StepVerifier.create(events)
+                .assertNext(event -> {
+                    assertThat(event.id()).isEqualTo(janKowalski.getId().toString());
+                    assertThat(event.event()).isEqualTo("template-created");
+                    assertThat(event.data()).contains("\"name\":\"Jan Kowalski\"");
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("operation: changes, should: push created item, when: item is added while subscribed")
+    void changesShouldPushItemAddedWhileSubscribed() {
+        // given
+        TemplateEntity johnDoe = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        Flux<ServerSentEvent<String>> events = changes(johnDoe.getId() - 1);
+        Template janKowalski = new Template(null, "Jan Kowalski", "JK", Money.of(2000));
+
+        // when
+        StepVerifier.create(events)
+                // the replayed item confirms the subscription, so the next one has to be pushed
+                .assertNext(event -> assertThat(event.id()).isEqualTo(johnDoe.getId().toString()))
+                .then(() -> webTestClient.post()
+                        .uri(CREATE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(janKowalski)
+                        .exchange()
+                        .expectStatus().isCreated())
+                // then
+                .assertNext(event -> assertThat(event.data()).contains("\"name\":\"Jan Kowalski\""))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("operation: changes, should: push created item, when: item has a lower id than a replayed write-behind item")
+    void changesShouldPushItemWithLowerIdThanReplayedItem() {
+        // given
+        TemplateEntity johnDoe = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        // write-behind ids come from a block reserved after the one synchronous creates are numbered from
+        long queuedId = writeBehindTemplatePort.reserveIds().first();
+        writeBehindTemplatePort.insertAll(List.of(new Template(queuedId, "Queued", "QU", Money.of(3000))));
+        Flux<ServerSentEvent<String>> events = changes(johnDoe.getId());
+        Template janKowalski = new Template(null, "Jan Kowalski", "JK", Money.of(2000));
+
+        // when
+        StepVerifier.create(events)
+                .assertNext(event -> assertThat(event.id()).isEqualTo(String.valueOf(queuedId)))
+                .then(() -> webTestClient.post()
+                        .uri(CREATE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(janKowalski)
+                        .exchange()
+                        .expectStatus().isCreated())
+                // then
+                .assertNext(event -> assertThat(event.data()).contains("\"name\":\"Jan Kowalski\""))
+                .thenCancel()
+                .verify();
+    }
+
+    private Flux<ServerSentEvent<String>> changes(Long lastEventId) {
+        return webTestClient.get()
+                .uri(CHANGES_PATH)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header(LAST_EVENT_ID_HEADER, lastEventId.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+                })
+                .getResponseBody()
+                // heartbeats are comments without data
+                .filter(event -> event.data() != null);
+    }
+
     @Test
     @DisplayName("should: return request with the same request id, when: provided")
     void sendRequestWithRequestIdShouldReturnTheSameRequestId() {
@@ -388,6 +900,56 @@ class TemplateControllerTest {
                 .accept(MediaType.APPLICATION_JSON)
                 .exchange()
                 .expectStatus().isOk()
-                .expectHeader().exists(X_REQUEST_ID_HEADER);
+                .expectHeader().valueMatches(X_REQUEST_ID_HEADER,
+                        "[0-9a-f]{8}-[0-9a-f]{4}-7[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}");
+    }
+
+    @Test
+    @DisplayName("should: return new request id, when: provided one contains illegal characters")
+    void sendRequestWithIllegalRequestIdShouldReturnNewRequestId() {
+        // given
+        String requestId = "request id with spaces";
+
+        // when
+        webTestClient.get()
+                .uri(SEARCH_PATH)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(X_REQUEST_ID_HEADER, requestId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(X_REQUEST_ID_HEADER, value -> assertThat(value).isNotEqualTo(requestId));
+    }
+
+    @Test
+    @DisplayName("should: return truncated request id, when: provided one is too long")
+    void sendRequestWithTooLongRequestIdShouldReturnTruncatedRequestId() {
+        // given
+        String requestId = "a".repeat(100);
+
+        // when
+        webTestClient.get()
+                .uri(SEARCH_PATH)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(X_REQUEST_ID_HEADER, requestId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(X_REQUEST_ID_HEADER, "a".repeat(64));
+    }
+
+    @Test
+    @DisplayName("should: return request id in ErrorResponse, when: request fails")
+    void sendFailingRequestShouldReturnRequestIdInErrorResponse() {
+        // given
+        String requestId = "requestId";
+
+        // when
+        webTestClient.get()
+                .uri(GET_BY_ID_PATH, 99L)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(X_REQUEST_ID_HEADER, requestId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.requestId").isEqualTo(requestId);
     }
 }
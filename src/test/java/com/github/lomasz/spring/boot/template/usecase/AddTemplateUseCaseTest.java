@@ -4,16 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
 import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
 import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
 import com.github.lomasz.spring.boot.template.application.usecase.AddTemplateUseCase;
-import java.math.BigDecimal;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.jdbc.Sql;
 
 @SpringBootTest
@@ -26,18 +27,21 @@ class AddTemplateUseCaseTest {
     @Autowired
     private TemplateRepository templateRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private AddTemplateUseCase sut;
 
     @BeforeEach
     void setUp() {
-        sut = new AddTemplateUseCase(addTemplatePort);
+        sut = new AddTemplateUseCase(addTemplatePort, eventPublisher);
     }
 
     @Test
     @DisplayName("should: create new template")
     void shouldCreate() {
         // given
-        Template Template = new Template(null, "John Doe", "JD", BigDecimal.valueOf(100000));
+        Template Template = new Template(null, "John Doe", "JD", Money.of(100000));
 
         // when
         AddTemplateUseCase.Output result = sut.execute(new AddTemplateUseCase.Input(Template));
@@ -51,6 +55,6 @@ class AddTemplateUseCaseTest {
         assertThat(entity.get().getId()).isEqualTo(result.id());
         assertThat(entity.get().getName()).isEqualTo("John Doe");
         assertThat(entity.get().getAcronym()).isEqualTo("JD");
-        assertThat(entity.get().getBudget()).isEqualTo(BigDecimal.valueOf(100000));
+        assertThat(entity.get().getBudget()).isEqualTo(Money.of(100000));
     }
 }
@@ -0,0 +1,63 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.AddTemplatesUseCase;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class AddTemplatesUseCaseTest {
+
+    @Autowired
+    private AddTemplatePort addTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private AddTemplatesUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new AddTemplatesUseCase(addTemplatePort, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should: create all templates and return ids in request order, when: more items than a single batch")
+    void shouldCreateAll() {
+        // given
+        List<Template> templates = IntStream.range(0, 120)
+                .mapToObj(i -> new Template(null, "John Doe " + i, "JD", Money.of(i)))
+                .toList();
+
+        // when
+        AddTemplatesUseCase.Output result = sut.execute(new AddTemplatesUseCase.Input(templates));
+
+        // then
+        assertThat(result.ids())
+                .hasSize(120)
+                .doesNotHaveDuplicates()
+                .doesNotContainNull();
+        assertThat(templateRepository.count()).isEqualTo(120);
+
+        TemplateEntity last = templateRepository.findById(result.ids().getLast()).orElseThrow();
+        assertThat(last.getName()).isEqualTo("John Doe 119");
+        assertThat(last.getBudget()).isEqualTo(Money.of(119));
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waiting for work done in the background, e.g. by the write-behind queue or the replica lag monitor.
+ */
+final class Awaits {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final long POLL_INTERVAL_MILLIS = 20;
+
+    private Awaits() {
+    }
+
+    static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
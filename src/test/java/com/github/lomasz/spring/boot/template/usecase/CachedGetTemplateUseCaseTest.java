@@ -0,0 +1,102 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.GetTemplateUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = "app.cache.templates.enabled=true")
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class CachedGetTemplateUseCaseTest {
+
+    @Autowired
+    private GetTemplatePort getTemplatePort;
+
+    @Autowired
+    private AddTemplatePort addTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private GetTemplateUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GetTemplateUseCase(getTemplatePort);
+    }
+
+    @Test
+    @DisplayName("should: return cached template, when: read before")
+    void shouldReturnCachedTemplateWhenReadBefore() {
+        // given
+        TemplateEntity saved = templateRepository.save(TemplateEntity.builder()
+                .name("John Doe")
+                .acronym("JD")
+                .budget(Money.of(100000))
+                .build());
+        double hitsBefore = cacheGets("hit");
+
+        sut.execute(new GetTemplateUseCase.Input(saved.getId()));
+        templateRepository.deleteById(saved.getId());
+
+        // when
+        GetTemplateUseCase.Output result = sut.execute(new GetTemplateUseCase.Input(saved.getId()));
+
+        // then
+        assertThat(result.template().name()).isEqualTo("John Doe");
+        assertThat(cacheGets("hit")).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("should: serve NotFoundException from cache, when: read before")
+    void shouldCacheNotFoundWhenReadBefore() {
+        // given
+        Long id = Long.MAX_VALUE;
+        assertThrows(NotFoundException.class, () -> sut.execute(new GetTemplateUseCase.Input(id)));
+        double hitsBefore = cacheGets("hit");
+
+        // when
+        // then
+        assertThrows(NotFoundException.class, () -> sut.execute(new GetTemplateUseCase.Input(id)));
+        assertThat(cacheGets("hit")).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("should: return created template, when: created through the cached port")
+    void shouldReturnTemplateCreatedThroughCachedPort() {
+        // given
+        Long id = addTemplatePort.create(new Template(null, "John Doe", "JD", Money.of(100000)));
+
+        // when
+        GetTemplateUseCase.Output result = sut.execute(new GetTemplateUseCase.Input(id));
+
+        // then
+        assertThat(result.template().id()).isEqualTo(id);
+        assertThat(result.template().name()).isEqualTo("John Doe");
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "templates")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
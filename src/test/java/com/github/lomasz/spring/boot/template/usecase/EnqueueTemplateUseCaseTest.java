@@ -0,0 +1,106 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static com.github.lomasz.spring.boot.template.usecase.Awaits.awaitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.EnqueueTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.TemplateWriteBehindQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = "app.ingestion.write-behind.enabled=true")
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class EnqueueTemplateUseCaseTest {
+
+    @Autowired
+    private TemplateWriteBehindQueue templateWriteBehindQueue;
+
+    @Autowired
+    private AddTemplatePort addTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private EnqueueTemplateUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new EnqueueTemplateUseCase(templateWriteBehindQueue);
+    }
+
+    @Test
+    @DisplayName("should: commit template under the returned id, when: accepted")
+    void shouldCommitUnderReturnedId() {
+        // given
+        Template template = new Template(null, "John Doe", "JD", Money.of(100000));
+
+        // when
+        EnqueueTemplateUseCase.Output result = sut.execute(new EnqueueTemplateUseCase.Input(template));
+
+        // then
+        assertThat(result.id()).isNotNull();
+        awaitUntil(() -> templateRepository.existsById(result.id()));
+        TemplateEntity entity = templateRepository.findById(result.id()).orElseThrow();
+        assertThat(entity.getName()).isEqualTo("John Doe");
+        assertThat(entity.getBudget()).isEqualTo(Money.of(100000));
+        assertThat(entity.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("should: not collide with ids of synchronous creates, when: more items than a reserved block")
+    void shouldNotCollideWithSynchronousCreates() {
+        // given
+        List<Long> ids = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 120; i++) {
+            ids.add(sut.execute(new EnqueueTemplateUseCase.Input(new Template(null, "Queued " + i, "QU", Money.of(i)))).id());
+            if (i % 40 == 0) {
+                ids.add(addTemplatePort.create(new Template(null, "Direct " + i, "DI", Money.of(i))));
+            }
+        }
+
+        // then
+        assertThat(ids).doesNotHaveDuplicates();
+        awaitUntil(() -> templateRepository.count() == ids.size());
+        assertThat(templateRepository.findAllById(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("should: commit the other templates and count the failed one, when: a template violates a constraint")
+    void shouldDropOnlyTemplateThatCannotBeCommitted() {
+        // given
+        double failedBefore = failed();
+        // longer than the name column
+        Template tooLong = new Template(null, "J".repeat(300), "JD", Money.of(100000));
+        Template valid = new Template(null, "Jan Kowalski", "JK", Money.of(200000));
+
+        // when
+        Long tooLongId = sut.execute(new EnqueueTemplateUseCase.Input(tooLong)).id();
+        Long validId = sut.execute(new EnqueueTemplateUseCase.Input(valid)).id();
+
+        // then
+        awaitUntil(() -> templateRepository.existsById(validId) && failed() > failedBefore);
+        assertThat(templateRepository.existsById(tooLongId)).isFalse();
+        assertThat(failed() - failedBefore).isEqualTo(1);
+    }
+
+    private double failed() {
+        return meterRegistry.get("templates.write.behind.failed").counter().count();
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.ExportTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.ExportTemplatesUseCase;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ExportTemplatesUseCaseTest {
+
+    @Autowired
+    private ExportTemplatePort exportTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    private ExportTemplatesUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ExportTemplatesUseCase(exportTemplatePort);
+    }
+
+    @Test
+    @DisplayName("should: pass all templates ordered by id to the consumer")
+    void shouldExportAll() {
+        // given
+        TemplateEntity johnDoe = templateRepository.save(TemplateEntity.builder()
+                .name("John Doe")
+                .acronym("JD")
+                .budget(Money.of(100000))
+                .build());
+        TemplateEntity janKowalski = templateRepository.save(TemplateEntity.builder()
+                .name("Jan Kowalski")
+                .acronym("JK")
+                .budget(Money.of(200000))
+                .build());
+        List<Template> exported = new ArrayList<>();
+
+        // when
+        ExportTemplatesUseCase.Output result = sut.execute(new ExportTemplatesUseCase.Input(exported::add));
+
+        // then
+        assertThat(result.count()).isEqualTo(2);
+        assertThat(exported)
+                .extracting(Template::id)
+                .containsExactly(johnDoe.getId(), janKowalski.getId());
+    }
+}
@@ -6,9 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
 import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
 import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
 import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
 import com.github.lomasz.spring.boot.template.application.usecase.GetTemplateUseCase;
-import java.math.BigDecimal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,7 +40,7 @@ class GetTemplateUseCaseTest {
         TemplateEntity Template = TemplateEntity.builder()
                 .name("John Doe")
                 .acronym("JD")
-                .budget(BigDecimal.valueOf(100000))
+                .budget(Money.of(100000))
                 .build();
 
         TemplateEntity saved = templateRepository.save(Template);
@@ -53,7 +53,7 @@ class GetTemplateUseCaseTest {
         assertThat(result.template().id()).isEqualTo(saved.getId());
         assertThat(result.template().name()).isEqualTo("John Doe");
         assertThat(result.template().acronym()).isEqualTo("JD");
-        assertThat(result.template().budget()).isEqualTo(BigDecimal.valueOf(100000));
+        assertThat(result.template().budget()).isEqualTo(Money.of(100000));
     }
 
     @Test
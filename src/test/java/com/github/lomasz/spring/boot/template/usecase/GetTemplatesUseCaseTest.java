@@ -0,0 +1,68 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.GetTemplatesUseCase;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = "app.persistence.in-clause-chunk-size=2")
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class GetTemplatesUseCaseTest {
+
+    @Autowired
+    private GetTemplatePort getTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    private GetTemplatesUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GetTemplatesUseCase(getTemplatePort);
+    }
+
+    @Test
+    @DisplayName("should: return templates in requested order and missing ids, when: some ids do not exist")
+    void shouldReturnInRequestedOrderWithMissingIds() {
+        // given
+        TemplateEntity johnDoe = templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build());
+        TemplateEntity janKowalski = templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(2000)).build());
+        TemplateEntity juanitoPerez = templateRepository.save(TemplateEntity.builder().name("Juanito Perez").acronym("JP").budget(Money.of(3000)).build());
+        Long missingId = juanitoPerez.getId() + 1000;
+
+        // when
+        GetTemplatesUseCase.Output result = sut.execute(new GetTemplatesUseCase.Input(
+                List.of(juanitoPerez.getId(), missingId, johnDoe.getId(), janKowalski.getId(), johnDoe.getId())));
+
+        // then
+        assertThat(result.lookupResult().items())
+                .extracting(Template::name)
+                .containsExactly("Juanito Perez", "John Doe", "Jan Kowalski");
+        assertThat(result.lookupResult().missingIds()).containsExactly(missingId);
+    }
+
+    @Test
+    @DisplayName("should: return only missing ids, when: none exists")
+    void shouldReturnOnlyMissingIdsWhenNoneExists() {
+        // given
+
+        // when
+        GetTemplatesUseCase.Output result = sut.execute(new GetTemplatesUseCase.Input(List.of(99L, 98L)));
+
+        // then
+        assertThat(result.lookupResult().items()).isEmpty();
+        assertThat(result.lookupResult().missingIds()).containsExactly(99L, 98L);
+    }
+}
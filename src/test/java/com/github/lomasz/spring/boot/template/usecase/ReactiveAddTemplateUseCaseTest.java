@@ -0,0 +1,77 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveAddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.ReactiveAddTemplateUseCase;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import reactor.core.publisher.Flux;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReactiveAddTemplateUseCaseTest {
+
+    @Autowired
+    private ReactiveAddTemplatePort addTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    private ReactiveAddTemplateUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ReactiveAddTemplateUseCase(addTemplatePort);
+    }
+
+    @Test
+    @DisplayName("should: store template, when: added")
+    void shouldStoreTemplate() {
+        // given
+        Template template = new Template(null, "John Doe", "JD", Money.of(100000));
+
+        // when
+        ReactiveAddTemplateUseCase.Output result = sut.execute(new ReactiveAddTemplateUseCase.Input(template)).block();
+
+        // then
+        assertThat(result).isNotNull();
+        TemplateEntity saved = templateRepository.findById(result.id()).orElseThrow();
+        assertThat(saved.getName()).isEqualTo("John Doe");
+        assertThat(saved.getAcronym()).isEqualTo("JD");
+        assertThat(saved.getBudget()).isEqualTo(Money.of(100000));
+    }
+
+    @Test
+    @DisplayName("should: assign ids not used by JPA, when: added concurrently with JPA inserts")
+    void shouldAssignIdsNotUsedByJpa() {
+        // given
+        List<Long> jpaIds = templateRepository.saveAll(List.of(
+                        TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(1000)).build(),
+                        TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(2000)).build()))
+                .stream()
+                .map(TemplateEntity::getId)
+                .toList();
+
+        // when
+        List<Long> reactiveIds = Flux.range(0, 60)
+                .flatMap(i -> sut.execute(new ReactiveAddTemplateUseCase.Input(new Template(null, "Juanito Perez " + i, "JP", Money.of(i)))))
+                .map(ReactiveAddTemplateUseCase.Output::id)
+                .collectList()
+                .block();
+
+        // then
+        assertThat(reactiveIds).hasSize(60).doesNotHaveDuplicates().doesNotContainAnyElementsOf(jpaIds);
+        assertThat(templateRepository.count()).isEqualTo(62);
+    }
+
+}
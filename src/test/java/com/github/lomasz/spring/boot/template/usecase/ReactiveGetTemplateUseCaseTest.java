@@ -0,0 +1,71 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveGetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.ReactiveGetTemplateUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReactiveGetTemplateUseCaseTest {
+
+    @Autowired
+    private ReactiveGetTemplatePort getTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    private ReactiveGetTemplateUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ReactiveGetTemplateUseCase(getTemplatePort);
+    }
+
+    @Test
+    @DisplayName("should: return template, when: exists")
+    void shouldGetByIdWhenExists() {
+        // given
+        TemplateEntity saved = templateRepository.save(TemplateEntity.builder()
+                .name("John Doe")
+                .acronym("JD")
+                .budget(Money.of(100000))
+                .build());
+
+        // when
+        // then
+        StepVerifier.create(sut.execute(new ReactiveGetTemplateUseCase.Input(saved.getId())))
+                .assertNext(result -> {
+                    assertThat(result.template().id()).isEqualTo(saved.getId());
+                    assertThat(result.template().name()).isEqualTo("John Doe");
+                    assertThat(result.template().acronym()).isEqualTo("JD");
+                    assertThat(result.template().budget()).isEqualTo(Money.of(100000));
+                    assertThat(result.template().version()).isZero();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should: signal NotFoundException, when: does not exist")
+    void shouldSignalNotFoundExceptionWhenDoesNotExist() {
+        // given
+
+        // when
+        // then
+        StepVerifier.create(sut.execute(new ReactiveGetTemplateUseCase.Input(1L)))
+                .expectError(NotFoundException.class)
+                .verify();
+    }
+
+}
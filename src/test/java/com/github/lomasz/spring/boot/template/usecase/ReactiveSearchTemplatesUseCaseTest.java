@@ -0,0 +1,99 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.exception.BusinessException;
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import com.github.lomasz.spring.boot.template.application.port.ReactiveSearchTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.ReactiveSearchTemplatesUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReactiveSearchTemplatesUseCaseTest {
+
+    @Autowired
+    private ReactiveSearchTemplatePort searchTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    private ReactiveSearchTemplatesUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ReactiveSearchTemplatesUseCase(searchTemplatePort);
+    }
+
+    @Test
+    @DisplayName("should: return only matching items with exact count, when: filter given")
+    void shouldReturnFilteredItems() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(100000)).build());
+        templateRepository.save(TemplateEntity.builder().name("John Smith").acronym("JS").budget(Money.of(300000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Johnny Bravo").acronym("JB").budget(Money.of(200000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(200000)).build());
+
+        TemplateFilter filter = new TemplateFilter("John", null, Money.of(150000), Money.of(300000));
+
+        // when
+        // then
+        StepVerifier.create(sut.execute(
+                        new ReactiveSearchTemplatesUseCase.Input(0, 20, SortDirection.DESC, "budget", filter, CountMode.EXACT)))
+                .assertNext(result -> {
+                    assertThat(result.searchResult().totalCount()).isEqualTo(2);
+                    assertThat(result.searchResult().pages()).isEqualTo(1);
+                    assertThat(result.searchResult().hasNext()).isFalse();
+                    assertThat(result.searchResult().items())
+                            .extracting(Template::name)
+                            .containsExactly("John Smith", "Johnny Bravo");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should: return hasNext without total count, when: count mode NONE")
+    void shouldReturnHasNextWithoutCount() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(100000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(200000)).build());
+
+        // when
+        // then
+        StepVerifier.create(sut.execute(
+                        new ReactiveSearchTemplatesUseCase.Input(0, 1, SortDirection.ASC, "name", TemplateFilter.none(), CountMode.NONE)))
+                .assertNext(result -> {
+                    assertThat(result.searchResult().totalCount()).isNull();
+                    assertThat(result.searchResult().hasNext()).isTrue();
+                    assertThat(result.searchResult().items())
+                            .extracting(Template::name)
+                            .containsExactly("Jan Kowalski");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should: signal BusinessException, when: unknown sort property")
+    void shouldSignalBusinessExceptionWhenUnknownSortProperty() {
+        // given
+
+        // when
+        // then
+        StepVerifier.create(sut.execute(new ReactiveSearchTemplatesUseCase.Input(0, 20, SortDirection.ASC, "surname")))
+                .expectError(BusinessException.class)
+                .verify();
+    }
+
+}
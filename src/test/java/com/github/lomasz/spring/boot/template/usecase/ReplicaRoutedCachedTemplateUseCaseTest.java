@@ -0,0 +1,112 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static com.github.lomasz.spring.boot.template.usecase.Awaits.awaitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.GetTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.SearchTemplatesUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+        "app.cache.templates.enabled=true",
+        "app.persistence.second-level-cache.enabled=true",
+        "app.persistence.second-level-cache.query-cache-enabled=true",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:template-cached-replica",
+        "app.datasource.replica.initialize-schema=true",
+        "app.datasource.replica.lag-query=SELECT seconds FROM replica_lag",
+        "app.datasource.replica.lag-check-interval=50ms"
+})
+class ReplicaRoutedCachedTemplateUseCaseTest {
+
+    private static final String INSERT_SQL = "INSERT INTO template (id, name, acronym, budget_minor_units, version) VALUES (?, ?, ?, ?, 0)";
+
+    @Autowired
+    private GetTemplatePort getTemplatePort;
+
+    @Autowired
+    private SearchTemplatePort searchTemplatePort;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate replica;
+
+    private GetTemplateUseCase getTemplateUseCase;
+
+    private SearchTemplatesUseCase searchTemplatesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getTemplateUseCase = new GetTemplateUseCase(getTemplatePort);
+        searchTemplatesUseCase = new SearchTemplatesUseCase(searchTemplatePort);
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds INT)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag (seconds) VALUES (0)");
+        awaitUntil(() -> meterRegistry.get("datasource.replica.available").gauge().value() == 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.update("DELETE FROM template");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("should: return template, when: looked up before it was replicated")
+    void shouldNotCacheNotFoundReadFromReplica() {
+        // given
+        long id = 2_000_000L;
+        assertThrows(NotFoundException.class, () -> getTemplateUseCase.execute(new GetTemplateUseCase.Input(id)));
+        replica.update(INSERT_SQL, id, "John Doe", "JD", 10000000L);
+
+        // when
+        GetTemplateUseCase.Output result = getTemplateUseCase.execute(new GetTemplateUseCase.Input(id));
+
+        // then
+        assertThat(result.template().name()).isEqualTo("John Doe");
+    }
+
+    @Test
+    @DisplayName("should: return replicated template, when: searched before it was replicated")
+    void shouldNotCacheSearchReadFromReplica() {
+        // given
+        search();
+        replica.update(INSERT_SQL, 2_000_001L, "Jan Kowalski", "JK", 20000000L);
+
+        // when
+        SearchTemplatesUseCase.Output result = search();
+
+        // then
+        assertThat(result.searchResult().items()).extracting(Template::name).containsExactly("Jan Kowalski");
+    }
+
+    private SearchTemplatesUseCase.Output search() {
+        return searchTemplatesUseCase.execute(new SearchTemplatesUseCase.Input(0, 20, SortDirection.ASC, "budget"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static com.github.lomasz.spring.boot.template.usecase.Awaits.awaitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.lomasz.spring.boot.template.application.domain.exception.NotFoundException;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.GetTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.GetTemplatesAfterIdUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:template-replica",
+        "app.datasource.replica.initialize-schema=true",
+        "app.datasource.replica.lag-query=SELECT seconds FROM replica_lag",
+        "app.datasource.replica.lag-check-interval=50ms",
+        "app.datasource.replica.max-lag=5s",
+        "app.datasource.replica.read-your-writes-window=1m"
+})
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReplicaRoutedTemplateUseCaseTest {
+
+    private static final String REQUEST_ID = "X-Request-ID";
+
+    @Autowired
+    private GetTemplatePort getTemplatePort;
+
+    @Autowired
+    private AddTemplatePort addTemplatePort;
+
+    @Autowired
+    private SearchTemplatePort searchTemplatePort;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate replica;
+
+    private GetTemplateUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GetTemplateUseCase(getTemplatePort);
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds INT)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag (seconds) VALUES (0)");
+        awaitUntil(() -> replicaAvailable() == 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.remove(REQUEST_ID);
+        replica.update("DELETE FROM template");
+    }
+
+    @Test
+    @DisplayName("should: read from replica, when: replica is up to date")
+    void shouldReadFromReplica() {
+        // given
+        replica.update("INSERT INTO template (id, name, acronym, budget_minor_units, version) VALUES (?, ?, ?, ?, 0)",
+                1_000_000L, "John Doe", "JD", 10000000L);
+
+        // when
+        GetTemplateUseCase.Output result = sut.execute(new GetTemplateUseCase.Input(1_000_000L));
+
+        // then
+        assertThat(result.template().name()).isEqualTo("John Doe");
+    }
+
+    @Test
+    @DisplayName("should: read from primary, when: same request id has created the template")
+    void shouldReadYourWrites() {
+        // given
+        MDC.put(REQUEST_ID, "writer");
+        Long id = addTemplatePort.create(new Template(null, "John Doe", "JD", Money.of(100000)));
+
+        // when
+        GetTemplateUseCase.Output result = sut.execute(new GetTemplateUseCase.Input(id));
+
+        // then
+        assertThat(result.template().name()).isEqualTo("John Doe");
+        MDC.put(REQUEST_ID, "reader");
+        assertThrows(NotFoundException.class, () -> sut.execute(new GetTemplateUseCase.Input(id)));
+    }
+
+    @Test
+    @DisplayName("should: read from primary, when: replica lags more than max-lag")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        // given
+        Long id = addTemplatePort.create(new Template(null, "John Doe", "JD", Money.of(100000)));
+        replica.update("UPDATE replica_lag SET seconds = 60");
+        awaitUntil(() -> replicaAvailable() == 0);
+
+        // when
+        GetTemplateUseCase.Output result = sut.execute(new GetTemplateUseCase.Input(id));
+
+        // then
+        assertThat(result.template().name()).isEqualTo("John Doe");
+    }
+
+    @Test
+    @DisplayName("should: read from primary without opening read-your-writes window, when: read is marked for primary")
+    void shouldReadFromPrimaryWhenRequested() {
+        // given
+        Long id = addTemplatePort.create(new Template(null, "John Doe", "JD", Money.of(100000)));
+        MDC.put(REQUEST_ID, "reader");
+
+        // when
+        GetTemplatesAfterIdUseCase.Output result = new GetTemplatesAfterIdUseCase(searchTemplatePort)
+                .execute(new GetTemplatesAfterIdUseCase.Input(id - 1, 10));
+
+        // then
+        assertThat(result.templates()).extracting(Template::name).containsExactly("John Doe");
+        assertThrows(NotFoundException.class, () -> sut.execute(new GetTemplateUseCase.Input(id)));
+    }
+
+    private double replicaAvailable() {
+        return meterRegistry.get("datasource.replica.available").gauge().value();
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
+import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.exception.BusinessException;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.ScrollTemplatesUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ScrollTemplatesUseCaseTest {
+
+    @Autowired
+    private SearchTemplatePort searchTemplatePort;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    private ScrollTemplatesUseCase sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ScrollTemplatesUseCase(searchTemplatePort);
+    }
+
+    @Test
+    @DisplayName("should: return consecutive slices with id tiebreak, when: following next cursor")
+    void shouldScrollThroughAllItems() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(100000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(100000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Juanito Perez").acronym("JP").budget(Money.of(200000)).build());
+
+        // when
+        ScrollTemplatesUseCase.Output first = sut.execute(
+                new ScrollTemplatesUseCase.Input(null, 2, SortDirection.ASC, "budget"));
+        ScrollTemplatesUseCase.Output second = sut.execute(
+                new ScrollTemplatesUseCase.Input(first.scrollResult().nextCursor(), 2, SortDirection.ASC, "budget"));
+
+        // then
+        assertThat(first.scrollResult().items())
+                .extracting(Template::name)
+                .containsExactly("John Doe", "Jan Kowalski");
+        assertThat(first.scrollResult().nextCursor()).isNotNull();
+
+        assertThat(second.scrollResult().items())
+                .extracting(Template::name)
+                .containsExactly("Juanito Perez");
+        assertThat(second.scrollResult().nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("should: throw BusinessException, when: cursor was issued for different sort order")
+    void shouldThrowBusinessExceptionWhenCursorDoesNotMatchSort() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(100000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(200000)).build());
+
+        String cursor = sut.execute(new ScrollTemplatesUseCase.Input(null, 1, SortDirection.ASC, "budget"))
+                .scrollResult().nextCursor();
+
+        // when
+        // then
+        assertThrows(BusinessException.class,
+                () -> sut.execute(new ScrollTemplatesUseCase.Input(cursor, 1, SortDirection.DESC, "name")));
+    }
+
+    @Test
+    @DisplayName("should: throw BusinessException, when: size is out of range")
+    void shouldThrowBusinessExceptionWhenSizeOutOfRange() {
+        // given
+        ScrollTemplatesUseCase.Input empty = new ScrollTemplatesUseCase.Input(null, 0, SortDirection.ASC, "budget");
+        ScrollTemplatesUseCase.Input tooLarge = new ScrollTemplatesUseCase.Input(null, ScrollTemplatesUseCase.MAX_SIZE + 1, SortDirection.ASC, "budget");
+
+        // when
+        // then
+        assertThrows(BusinessException.class, () -> sut.execute(empty));
+        assertThrows(BusinessException.class, () -> sut.execute(tooLarge));
+    }
+
+}
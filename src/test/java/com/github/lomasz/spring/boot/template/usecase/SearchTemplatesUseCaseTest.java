@@ -1,15 +1,20 @@
 package com.github.lomasz.spring.boot.template.usecase;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateEntity;
 import com.github.lomasz.spring.boot.template.adapter.out.persistence.TemplateRepository;
+import com.github.lomasz.spring.boot.template.application.domain.model.CountMode;
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
 import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
 import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.domain.model.TemplateFilter;
+import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
 import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
 import com.github.lomasz.spring.boot.template.application.usecase.SearchTemplatesUseCase;
-import java.math.BigDecimal;
 import java.util.Comparator;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +32,9 @@ class SearchTemplatesUseCaseTest {
     @Autowired
     private TemplateRepository templateRepository;
 
+    @Autowired
+    private AddTemplatePort addTemplatePort;
+
     private SearchTemplatesUseCase sut;
 
     @BeforeEach
@@ -41,13 +49,13 @@ class SearchTemplatesUseCaseTest {
         TemplateEntity johnDoe = TemplateEntity.builder()
                 .name("John Doe")
                 .acronym("JD")
-                .budget(BigDecimal.valueOf(100000L))
+                .budget(Money.of(100000L))
                 .build();
 
         TemplateEntity janKowalski = TemplateEntity.builder()
                 .name("Jan Kowalski")
                 .acronym("JK")
-                .budget(BigDecimal.valueOf(200000))
+                .budget(Money.of(200000))
                 .build();
 
         templateRepository.save(johnDoe);
@@ -69,4 +77,98 @@ class SearchTemplatesUseCaseTest {
                 .isSortedAccordingTo(Comparator.comparing(Template::budget));
     }
 
+    @Test
+    @DisplayName("should: return only matching items, when: filter given")
+    void shouldReturnFilteredItems() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(100000)).build());
+        templateRepository.save(TemplateEntity.builder().name("John Smith").acronym("JS").budget(Money.of(300000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Johnny Bravo").acronym("JB").budget(Money.of(200000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(200000)).build());
+
+        TemplateFilter filter = new TemplateFilter("John", null, Money.of(150000), Money.of(300000));
+
+        // when
+        SearchTemplatesUseCase.Output result = sut.execute(
+                new SearchTemplatesUseCase.Input(0, 20, SortDirection.ASC, "name", filter));
+
+        // then
+        assertThat(result.searchResult().totalCount()).isEqualTo(2);
+        assertThat(result.searchResult().items())
+                .extracting(Template::name)
+                .containsExactly("John Smith", "Johnny Bravo");
+    }
+
+    @Test
+    @DisplayName("should: return hasNext without total count, when: count mode NONE")
+    void shouldReturnHasNextWithoutCount() {
+        // given
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(100000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Jan Kowalski").acronym("JK").budget(Money.of(200000)).build());
+        templateRepository.save(TemplateEntity.builder().name("Juanito Perez").acronym("JP").budget(Money.of(300000)).build());
+
+        // when
+        SearchTemplatesUseCase.Output firstPage = sut.execute(
+                new SearchTemplatesUseCase.Input(0, 2, SortDirection.ASC, "name", TemplateFilter.none(), CountMode.NONE));
+        SearchTemplatesUseCase.Output lastPage = sut.execute(
+                new SearchTemplatesUseCase.Input(1, 2, SortDirection.ASC, "name", TemplateFilter.none(), CountMode.NONE));
+
+        // then
+        assertThat(firstPage.searchResult().countMode()).isEqualTo(CountMode.NONE);
+        assertThat(firstPage.searchResult().totalCount()).isNull();
+        assertThat(firstPage.searchResult().pages()).isNull();
+        assertThat(firstPage.searchResult().hasNext()).isTrue();
+        assertThat(firstPage.searchResult().items())
+                .extracting(Template::name)
+                .containsExactly("Jan Kowalski", "John Doe");
+        assertThat(lastPage.searchResult().hasNext()).isFalse();
+        assertThat(lastPage.searchResult().items())
+                .extracting(Template::name)
+                .containsExactly("Juanito Perez");
+    }
+
+    @Test
+    @DisplayName("should: return count including created items, when: count mode ESTIMATED")
+    void shouldReturnEstimatedCountBumpedByCreates() {
+        // given
+        TemplateFilter filter = new TemplateFilter("John", null, null, null);
+        templateRepository.save(TemplateEntity.builder().name("John Doe").acronym("JD").budget(Money.of(100000)).build());
+        templateRepository.save(TemplateEntity.builder().name("John Smith").acronym("JS").budget(Money.of(300000)).build());
+        sut.execute(new SearchTemplatesUseCase.Input(0, 1, SortDirection.ASC, "name", filter, CountMode.ESTIMATED));
+        addTemplatePort.create(new Template(null, "Johnny Bravo", "JB", Money.of(200000)));
+        addTemplatePort.create(new Template(null, "Jan Kowalski", "JK", Money.of(200000)));
+
+        // when
+        SearchTemplatesUseCase.Output result = sut.execute(
+                new SearchTemplatesUseCase.Input(0, 1, SortDirection.ASC, "name", filter, CountMode.ESTIMATED));
+
+        // then
+        assertThat(result.searchResult().countMode()).isEqualTo(CountMode.ESTIMATED);
+        assertThat(result.searchResult().totalCount()).isEqualTo(3);
+        assertThat(result.searchResult().pages()).isEqualTo(3);
+        assertThat(result.searchResult().hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should: not count created items, when: count mode ESTIMATED and creation rolled back")
+    void shouldNotBumpEstimatedCountByRolledBackCreates() {
+        // given
+        TemplateFilter filter = new TemplateFilter("Rolled", null, null, null);
+        templateRepository.save(TemplateEntity.builder().name("Rolled Once").acronym("RO").budget(Money.of(100000)).build());
+        sut.execute(new SearchTemplatesUseCase.Input(0, 1, SortDirection.ASC, "name", filter, CountMode.ESTIMATED));
+        // the name of the second one exceeds the column length, so the whole batch is rolled back
+        List<Template> templates = List.of(
+                new Template(null, "Rolled Twice", "RT", Money.of(200000)),
+                new Template(null, "Rolled " + "x".repeat(300), "RX", Money.of(200000)));
+        assertThrows(RuntimeException.class, () -> addTemplatePort.createAll(templates));
+
+        // when
+        SearchTemplatesUseCase.Output result = sut.execute(
+                new SearchTemplatesUseCase.Input(0, 1, SortDirection.ASC, "name", filter, CountMode.ESTIMATED));
+
+        // then
+        assertThat(result.searchResult().totalCount()).isEqualTo(1);
+        assertThat(result.searchResult().hasNext()).isFalse();
+    }
+
 }
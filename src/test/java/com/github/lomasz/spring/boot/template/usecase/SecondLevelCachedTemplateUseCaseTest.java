@@ -0,0 +1,157 @@
+package com.github.lomasz.spring.boot.template.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.lomasz.spring.boot.template.application.domain.model.Money;
+import com.github.lomasz.spring.boot.template.application.domain.model.SortDirection;
+import com.github.lomasz.spring.boot.template.application.domain.model.Template;
+import com.github.lomasz.spring.boot.template.application.port.AddTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.GetTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.SearchTemplatePort;
+import com.github.lomasz.spring.boot.template.application.port.WriteBehindTemplatePort;
+import com.github.lomasz.spring.boot.template.application.usecase.GetTemplateUseCase;
+import com.github.lomasz.spring.boot.template.application.usecase.SearchTemplatesUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = {
+        "app.persistence.second-level-cache.enabled=true",
+        "app.persistence.second-level-cache.query-cache-enabled=true"
+})
+@Sql(scripts = "/sql/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SecondLevelCachedTemplateUseCaseTest {
+
+    private static final String DELETE_SQL = "DELETE FROM template WHERE id = ?";
+
+    @Autowired
+    private GetTemplatePort getTemplatePort;
+
+    @Autowired
+    private SearchTemplatePort searchTemplatePort;
+
+    @Autowired
+    private AddTemplatePort addTemplatePort;
+
+    @Autowired
+    private WriteBehindTemplatePort writeBehindTemplatePort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private GetTemplateUseCase getTemplateUseCase;
+
+    private SearchTemplatesUseCase searchTemplatesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getTemplateUseCase = new GetTemplateUseCase(getTemplatePort);
+        searchTemplatesUseCase = new SearchTemplatesUseCase(searchTemplatePort);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("should: return template from second-level cache, when: row deleted behind Hibernate's back")
+    void shouldReturnCachedTemplateWhenReadBefore() {
+        // given
+        Long id = addTemplatePort.create(new Template(null, "John Doe", "JD", Money.of(100000)));
+        getTemplateUseCase.execute(new GetTemplateUseCase.Input(id));
+        jdbcTemplate.update(DELETE_SQL, id);
+
+        // when
+        GetTemplateUseCase.Output result = getTemplateUseCase.execute(new GetTemplateUseCase.Input(id));
+
+        // then
+        assertThat(result.template().name()).isEqualTo("John Doe");
+        assertThat(cacheRequests("template", "hit")).isPositive();
+        assertThat(hitRatio("template")).isPositive();
+    }
+
+    @Test
+    @DisplayName("should: return cached search page, when: searched before")
+    void shouldReturnCachedSearchPageWhenSearchedBefore() {
+        // given
+        Long id = addTemplatePort.create(new Template(null, "John Doe", "JD", Money.of(100000)));
+        search();
+        jdbcTemplate.update(DELETE_SQL, id);
+
+        // when
+        SearchTemplatesUseCase.Output result = search();
+
+        // then
+        assertThat(result.searchResult().items()).extracting(Template::name).containsExactly("John Doe");
+        assertThat(result.searchResult().totalCount()).isEqualTo(1);
+        assertThat(cacheRequests("template-search", "hit")).isPositive();
+    }
+
+    @Test
+    @DisplayName("should: return created template, when: searched before and created through Hibernate")
+    void shouldInvalidateCachedSearchWhenCreated() {
+        // given
+        addTemplatePort.create(new Template(null, "John Doe", "JD", Money.of(100000)));
+        search();
+        addTemplatePort.create(new Template(null, "Jan Kowalski", "JK", Money.of(200000)));
+
+        // when
+        SearchTemplatesUseCase.Output result = search();
+
+        // then
+        assertThat(result.searchResult().items()).extracting(Template::name).containsExactly("John Doe", "Jan Kowalski");
+        assertThat(result.searchResult().totalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should: return created template, when: searched before and inserted with JDBC")
+    void shouldInvalidateCachedSearchWhenInsertedWithJdbc() {
+        // given
+        addTemplatePort.create(new Template(null, "John Doe", "JD", Money.of(100000)));
+        search();
+        long id = writeBehindTemplatePort.reserveIds().first();
+        writeBehindTemplatePort.insertAll(List.of(new Template(id, "Jan Kowalski", "JK", Money.of(200000))));
+
+        // when
+        SearchTemplatesUseCase.Output result = search();
+
+        // then
+        assertThat(result.searchResult().items()).extracting(Template::name).containsExactly("John Doe", "Jan Kowalski");
+        assertThat(result.searchResult().totalCount()).isEqualTo(2);
+    }
+
+    private SearchTemplatesUseCase.Output search() {
+        return searchTemplatesUseCase.execute(new SearchTemplatesUseCase.Input(0, 20, SortDirection.ASC, "budget"));
+    }
+
+    private double cacheRequests(String region, String result) {
+        return meterRegistry.get("hibernate.cache.requests")
+                .tag("region", region)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private double hitRatio(String region) {
+        return meterRegistry.get("hibernate.cache.hit.ratio")
+                .tag("region", region)
+                .gauge()
+                .value();
+    }
+}